@@ -0,0 +1,115 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.TaskManagerApplication;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads tasks by ID into {@link TaskResponse}s by loading managed entities and copying
+ * them, as reads used to, and through the tuple projection that replaced it. Runs the
+ * application context against an in-memory H2 database, so it measures the ORM side
+ * rather than network round trips.
+ *
+ * <p>Run with {@code mvn -Pbenchmark verify -Djmh.args="TaskReadBenchmark -prof gc"};
+ * the gc profiler's {@code gc.alloc.rate.norm} is the allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskReadBenchmark {
+
+    private static final int TASKS = 5_000;
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readOnly;
+    private Set<String> fields;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.com.taskmanager=WARN",
+                "--google.cloud.project-id=benchmark",
+                "--google.cloud.location=benchmark",
+                "--google.api.key=benchmark",
+                "--gemini.model=benchmark");
+        taskRepository = context.getBean(TaskRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        fields = new LinkedHashSet<>(TaskResponse.ALL_FIELDS);
+
+        List<Task> tasks = new ArrayList<>(TASKS);
+        LocalDateTime due = LocalDateTime.of(2025, 6, 30, 17, 0);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Prepare the quarterly report section " + i);
+            task.setDescription("Collect the numbers from finance and draft section " + i + " of the report");
+            task.setAssignee(i % 3 == 0 ? "Aman" : "Priya");
+            task.setDueDate(due.plusHours(i));
+            task.setPriority("P" + (i % 4 + 1));
+            task.setStatus("PENDING");
+            tasks.add(task);
+        }
+        ids = taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> entities() {
+        List<Long> batch = nextBatch();
+        return readOnly.execute(status -> taskRepository.findAllById(batch).stream()
+            .map(TaskResponse::fromEntity)
+            .toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> projection() {
+        List<Long> batch = nextBatch();
+        return readOnly.execute(status -> taskRepository.findAllProjectedById(batch, fields));
+    }
+
+    // A random contiguous run of IDs, so successive reads do not hit the same rows
+    private List<Long> nextBatch() {
+        int start = ThreadLocalRandom.current().nextInt(TASKS - batchSize + 1);
+        return ids.subList(start, start + batchSize);
+    }
+}
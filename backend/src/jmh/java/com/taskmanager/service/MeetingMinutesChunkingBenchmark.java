@@ -0,0 +1,119 @@
+package com.taskmanager.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.taskmanager.dto.TaskRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Extracts tasks from a long transcript in one request and in concurrent overlapping
+ * chunks, against a local stub of the Gemini endpoint whose latency grows with the
+ * prompt length, as a model's does. A {@code max-chunk-chars} larger than the
+ * transcript disables chunking; a transcript of 8000 characters or fewer is sent
+ * whole either way.
+ *
+ * <p>Run with {@code mvn -Pbenchmark verify -Djmh.args="MeetingMinutesChunkingBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MeetingMinutesChunkingBenchmark {
+
+    @Param({"1000000", "8000"})
+    public int maxChunkChars;
+
+    @Param({"8000", "48000", "200000"})
+    public int transcriptChars;
+
+    @Param({"50"})
+    public int baseLatencyMillis;
+
+    @Param({"2"})
+    public int latencyMillisPerThousandChars;
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private GeminiService geminiService;
+    private String transcript;
+
+    @Setup
+    public void setUp() throws IOException {
+        AtomicInteger requests = new AtomicInteger();
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.createContext("/generate", exchange -> {
+            int promptChars;
+            try (InputStream body = exchange.getRequestBody()) {
+                promptChars = body.readAllBytes().length;
+            }
+            try {
+                Thread.sleep(baseLatencyMillis + (long) promptChars * latencyMillisPerThousandChars / 1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String tasks = "[{\\\"title\\\":\\\"Follow up on item " + requests.incrementAndGet()
+                + "\\\",\\\"assignee\\\":\\\"Priya\\\",\\\"dueDate\\\":\\\"tomorrow\\\"}]";
+            byte[] response = ("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + tasks + "\"}]}}]}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        upstreamExecutor = Executors.newCachedThreadPool();
+        upstream.setExecutor(upstreamExecutor);
+        upstream.start();
+
+        geminiService = new GeminiService(new TaskSimilarityIndex(0.5));
+        ReflectionTestUtils.setField(geminiService, "apiUrl",
+            "http://127.0.0.1:" + upstream.getAddress().getPort() + "/generate");
+        ReflectionTestUtils.setField(geminiService, "apiKey", "benchmark");
+        ReflectionTestUtils.setField(geminiService, "maxChunkChars", maxChunkChars);
+        ReflectionTestUtils.setField(geminiService, "overlapChars", 600);
+        ReflectionTestUtils.setField(geminiService, "maxInFlight", 4);
+        ReflectionTestUtils.setField(geminiService, "maxAttempts", 1);
+        ReflectionTestUtils.setField(geminiService, "retryBackoff", Duration.ZERO);
+        geminiService.start();
+
+        StringBuilder minutes = new StringBuilder();
+        String[] speakers = {"Aman", "Priya", "Chen", "Sofia"};
+        for (int turn = 0; minutes.length() < transcriptChars; turn++) {
+            minutes.append(speakers[turn % speakers.length]).append(": ")
+                .append("On item ").append(turn).append(" we reviewed the numbers from last week. ")
+                .append("Someone needs to update the tracker and send the summary by Friday.\n");
+        }
+        transcript = minutes.toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        geminiService.stop();
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<TaskRequest> parseMeetingMinutes() {
+        return geminiService.parseMeetingMinutes(transcript);
+    }
+}
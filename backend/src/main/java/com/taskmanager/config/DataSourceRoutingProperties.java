@@ -0,0 +1,32 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "taskmanager.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /** Send read-only transactions to the replicas below. */
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** After a client writes, its reads go to the primary for this long (0 disables). */
+    private Duration stickyWindow = Duration.ZERO;
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        /** How long to wait for a connection before failing over to the primary. */
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
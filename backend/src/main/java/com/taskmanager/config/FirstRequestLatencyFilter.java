@@ -0,0 +1,55 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long the first API request after startup took, exposed as the
+ * {@code taskmanager.first.request.latency} gauge next to Spring Boot's own
+ * {@code application.ready.time}. Cold-start regressions show up in these two numbers.
+ */
+@Slf4j
+@Component
+public class FirstRequestLatencyFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+
+    public FirstRequestLatencyFilter(MeterRegistry meterRegistry) {
+        Gauge.builder("taskmanager.first.request.latency", firstRequestMillis, AtomicLong::get)
+            .description("Latency of the first API request served after startup (-1 until one is served)")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return recorded.get() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (recorded.compareAndSet(false, true)) {
+                long elapsed = (System.nanoTime() - started) / 1_000_000;
+                firstRequestMillis.set(elapsed);
+                log.info("First request {} {} served in {} ms", request.getMethod(), request.getRequestURI(), elapsed);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions round-robin across healthy replicas and everything
+ * else to the primary. A replica that fails to hand out a connection is marked down
+ * and the read falls back to the primary until a health check brings it back.
+ *
+ * <p>Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag is
+ * only visible once the transaction has started, so the physical connection has to
+ * be fetched lazily for routing to see it.
+ *
+ * <p>Owns the replica pools and closes them in {@link #close()}; the primary is
+ * managed by whoever created it.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastWriteByClient = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final long stickyWindowMillis;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration stickyWindow) {
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        replicaKeys.forEach(key -> healthy.put(key, true));
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String client = ReadYourWritesFilter.currentClient();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Only a read-write transaction counts as a write; non-transactional reads do not pin the client
+            if (client != null && stickyWindowMillis > 0 && TransactionSynchronizationManager.isActualTransactionActive()) {
+                lastWriteByClient.put(client, System.currentTimeMillis());
+            }
+            return PRIMARY;
+        }
+        if (client != null && wroteRecently(client)) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return determinePrimary().getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markDown((String) key, e);
+            return determinePrimary().getConnection();
+        }
+    }
+
+    /** Probes every replica and updates its health; also forgets expired write stickiness. */
+    @Scheduled(fixedDelayString = "${taskmanager.datasource.routing.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (String key : replicaKeys) {
+            boolean up;
+            try (Connection connection = replicas.get(key).getConnection()) {
+                up = connection.isValid(2);
+            } catch (SQLException e) {
+                up = false;
+            }
+            Boolean previous = healthy.put(key, up);
+            if (up && Boolean.FALSE.equals(previous)) {
+                log.info("Replica {} is healthy again", key);
+            } else if (!up && Boolean.TRUE.equals(previous)) {
+                log.warn("Replica {} failed its health check, routing its reads to the primary", key);
+            }
+        }
+        long now = System.currentTimeMillis();
+        lastWriteByClient.values().removeIf(lastWrite -> now - lastWrite >= stickyWindowMillis);
+    }
+
+    @Override
+    public void close() {
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            if (replica.getValue() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica pool {}", replica.getKey(), e);
+                }
+            }
+        }
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthy.get(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private boolean wroteRecently(String client) {
+        Long lastWrite = lastWriteByClient.get(client);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < stickyWindowMillis;
+    }
+
+    private void markDown(String key, SQLException cause) {
+        if (Boolean.TRUE.equals(healthy.put(key, false))) {
+            log.warn("Replica {} refused a connection, routing its reads to the primary: {}", key, cause.getMessage());
+        }
+    }
+
+    private DataSource determinePrimary() {
+        return getResolvedDefaultDataSource();
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanager.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * Tags the request thread with the calling client so that {@link ReadReplicaRoutingDataSource}
+ * can keep that client's reads on the primary for a short window after it writes.
+ *
+ * <p>A client is its authenticated principal if there is one, else the value of
+ * {@value #CLIENT_ID_HEADER} if it sends one, else its HTTP session. Writes open a
+ * session so that a cookie-carrying client is recognised on its next read, which is
+ * why the filter is only registered while a sticky window is configured. The remote
+ * address is never used: clients behind one proxy or NAT would share a window.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    static String currentClient() {
+        return CURRENT_CLIENT.get();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CURRENT_CLIENT.set(clientOf(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT_CLIENT.remove();
+        }
+    }
+
+    // Prefixed so that a header value can never collide with a principal or session ID
+    private static String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (clientId != null && !clientId.isBlank()) {
+            return "client:" + clientId.trim();
+        }
+        HttpSession session = request.getSession(!SAFE_METHODS.contains(request.getMethod()));
+        return session == null ? null : "session:" + session.getId();
+    }
+}
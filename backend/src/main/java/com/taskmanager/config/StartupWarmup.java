@@ -0,0 +1,60 @@
+package com.taskmanager.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.service.NLParserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises the expensive lazily-initialised parts of the request path before the
+ * application reports readiness: Natty loads its ANTLR grammar on first parse, and
+ * Jackson builds its serializers on first use. Runners complete before the readiness
+ * probe flips to accepting traffic, so the first real request does not pay for this.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final List<String> SAMPLE_INPUTS = List.of(
+        "Finish landing page for Aman by 11pm 20th June P1",
+        "Call client Rajeev tomorrow 5pm",
+        "Prepare quarterly report for Priya next monday urgent"
+    );
+
+    private final NLParserService nlParserService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) throws JsonProcessingException {
+        long started = System.nanoTime();
+        for (String input : SAMPLE_INPUTS) {
+            TaskRequest request = nlParserService.parseTaskDescription(input);
+            objectMapper.readValue(objectMapper.writeValueAsString(request), TaskRequest.class);
+        }
+        TaskResponse response = new TaskResponse();
+        response.setTitle("warm-up");
+        response.setDueDate(LocalDateTime.now());
+        objectMapper.writeValueAsString(response);
+
+        long elapsed = System.nanoTime() - started;
+        Timer.builder("taskmanager.startup.warmup")
+            .description("Time spent warming up the parser and serializers before readiness")
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up completed in {} ms", elapsed / 1_000_000);
+    }
+}
@@ -1,12 +1,32 @@
 package com.taskmanager.config;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -15,4 +35,37 @@ public class WebConfig implements WebMvcConfigurer {
             .allowedHeaders("*")
             .allowCredentials(true);
     }
+
+    /**
+     * Binary formats for service-to-service clients that send {@code Accept: application/cbor}
+     * or {@code application/x-jackson-smile}. They are appended after the JSON converter so
+     * JSON stays the default, and they encode dates as epoch milliseconds instead of the
+     * formatted strings used in JSON.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(withEpochDates(Jackson2ObjectMapperBuilder.cbor().build())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(withEpochDates(Jackson2ObjectMapperBuilder.smile().build())));
+    }
+
+    // Registered last so it takes precedence over the JSR-310 module and ignores @JsonFormat patterns
+    static ObjectMapper withEpochDates(ObjectMapper mapper) {
+        SimpleModule epochDates = new SimpleModule("EpochDates")
+            .addSerializer(LocalDateTime.class, new JsonSerializer<>() {
+                @Override
+                public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+                        throws IOException {
+                    generator.writeNumber(value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+            })
+            .addDeserializer(LocalDateTime.class, new JsonDeserializer<>() {
+                @Override
+                public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                    return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneId.systemDefault());
+                }
+            });
+        return mapper.registerModule(epochDates);
+    }
 }
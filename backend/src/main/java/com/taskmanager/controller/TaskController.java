@@ -1,9 +1,16 @@
 package com.taskmanager.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskmanager.config.WebConfig;
+import com.taskmanager.dto.AssigneeSuggestion;
 import com.taskmanager.dto.MeetingMinutesRequest;
 import com.taskmanager.dto.TaskRequest;
 import com.taskmanager.dto.TaskResponse;
-import com.taskmanager.service.GeminiService;
+import com.taskmanager.service.AssigneeIndex;
+import com.taskmanager.service.AssigneeTaskRanking;
+import com.taskmanager.service.DeadlineEventStream;
+import com.taskmanager.service.IdempotencyStore;
+import com.taskmanager.service.MeetingMinutesExtractor;
 import com.taskmanager.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,12 +21,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -27,21 +40,34 @@ import java.util.List;
 @Tag(name = "Task Management", description = "APIs for managing tasks with natural language processing")
 public class TaskController {
 
+    private static final String EXTRACTION_SOURCE_HEADER = "X-Extraction-Source";
+    private static final String EXTRACTION_UPGRADE_PENDING_HEADER = "X-Extraction-Upgrade-Pending";
+
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final TaskService taskService;
-    private final GeminiService geminiService;
+    private final MeetingMinutesExtractor meetingMinutesExtractor;
+    private final IdempotencyStore idempotencyStore;
+    private final DeadlineEventStream deadlineEventStream;
+    private final AssigneeIndex assigneeIndex;
 
     @Operation(summary = "Create a new task", description = "Creates a new task with the provided details")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Task created successfully",
                     content = @Content(schema = @Schema(implementation = TaskResponse.class))),
-        @ApiResponse(responseCode = "400", description = "Invalid input")
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still running"),
+        @ApiResponse(responseCode = "422", description = "Idempotency key reused with a different payload")
     })
-    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE},
+                 consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<TaskResponse> createTask(
             @Parameter(description = "Task details to be created", required = true)
-            @Valid @RequestBody TaskRequest taskRequest) {
-        TaskResponse response = taskService.createTask(taskRequest);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+            @Valid @RequestBody TaskRequest taskRequest,
+            @Parameter(description = "Client-generated key that makes retries of this request safe")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("create", idempotencyKey, taskRequest, () ->
+            new ResponseEntity<>(taskService.createTask(taskRequest), HttpStatus.CREATED));
     }
 
     @Operation(summary = "Create task from natural language", 
@@ -49,60 +75,165 @@ public class TaskController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Task created successfully",
                    content = @Content(schema = @Schema(implementation = TaskResponse.class))),
-        @ApiResponse(responseCode = "400", description = "Invalid input")
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still running"),
+        @ApiResponse(responseCode = "422", description = "Idempotency key reused with a different payload")
     })
-    @PostMapping(value = "/parse", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/parse", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<TaskResponse> createTaskFromNaturalLanguage(
             @Parameter(description = "Natural language description of the task (e.g., 'Finish project by tomorrow 5pm')", 
                      required = true, 
                      example = "Finish landing page by Aman at 11pm 20th June")
-            @RequestParam("text") String naturalLanguageInput) {
-        TaskResponse response = taskService.createTaskFromNaturalLanguage(naturalLanguageInput);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+            @RequestParam("text") String naturalLanguageInput,
+            @Parameter(description = "Client-generated key that makes retries of this request safe")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("parse", idempotencyKey, naturalLanguageInput, () ->
+            new ResponseEntity<>(taskService.createTaskFromNaturalLanguage(naturalLanguageInput), HttpStatus.CREATED));
     }
 
     @Operation(summary = "Parse meeting minutes and extract tasks", 
-               description = "Extracts tasks from meeting minutes using AI")
+               description = "Extracts tasks from meeting minutes using AI. If the AI misses the latency budget, "
+                   + "tasks found by the local parser are returned and upgraded once the AI answers. "
+                   + "The X-Extraction-Source header (gemini or heuristic) says which path produced the response.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tasks extracted successfully",
                    content = @Content(schema = @Schema(implementation = TaskResponse[].class))),
-        @ApiResponse(responseCode = "400", description = "Invalid input")
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still running"),
+        @ApiResponse(responseCode = "422", description = "Idempotency key reused with a different payload")
     })
-    @PostMapping(value = "/meeting-minutes", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/meeting-minutes",
+                 produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE},
+                 consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<List<TaskResponse>> parseMeetingMinutes(
             @Parameter(description = "Meeting minutes text", required = true)
-            @Valid @RequestBody MeetingMinutesRequest request) {
-        List<TaskRequest> taskRequests = geminiService.parseMeetingMinutes(request.getTranscript());
-        List<TaskResponse> responses = taskRequests.stream()
-            .map(taskService::createTask)
-            .toList();
-        return ResponseEntity.ok(responses);
+            @Valid @RequestBody MeetingMinutesRequest request,
+            @Parameter(description = "Return matching existing tasks instead of creating near-duplicates")
+            @RequestParam(defaultValue = "false") boolean mergeDuplicates,
+            @Parameter(description = "Client-generated key that makes retries of this request safe")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("meeting-minutes", idempotencyKey, List.of(request, mergeDuplicates), () -> {
+            MeetingMinutesExtractor.Result result =
+                meetingMinutesExtractor.extractTasks(request.getTranscript(), mergeDuplicates);
+            return ResponseEntity.ok()
+                .header(EXTRACTION_SOURCE_HEADER, result.source().name().toLowerCase())
+                .header(EXTRACTION_UPGRADE_PENDING_HEADER, String.valueOf(result.upgradePending()))
+                .body(result.tasks());
+        });
     }
 
     @Operation(summary = "Get all tasks with pagination and search", description = "Retrieves a paginated list of tasks with optional search")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved paginated list of tasks")
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Map<String, Object>> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @Parameter(description = "Comma-separated fields to return (default: id,title,assignee,dueDate,priority,status; * for all)",
+                      example = "title,dueDate,status")
+            @RequestParam(required = false) String fields) {
         
-        Map<String, Object> response = taskService.getAllTasks(page, size, search);
+        Map<String, Object> response = taskService.getAllTasks(page, size, search, fields);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get overdue tasks", description = "Retrieves open tasks past their due date, longest overdue first, "
+                   + "including missed occurrences of recurring tasks from the last 30 days")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved overdue tasks",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array"))),
+        @ApiResponse(responseCode = "400", description = "Negative limit")
+    })
+    @GetMapping(value = "/overdue", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<TaskResponse>> getOverdueTasks(
+            @Parameter(description = "Maximum number of tasks to return", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        requireAtLeast("limit", limit, 0);
+        List<TaskResponse> tasks = taskService.getOverdueTasks(limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @Operation(summary = "Get tasks due soon", description = "Retrieves open tasks whose due date falls within the due-soon window, soonest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks due soon",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array"))),
+        @ApiResponse(responseCode = "400", description = "Negative limit")
+    })
+    @GetMapping(value = "/due-soon", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<TaskResponse>> getDueSoonTasks(
+            @Parameter(description = "Maximum number of tasks to return", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        requireAtLeast("limit", limit, 0);
+        List<TaskResponse> tasks = taskService.getDueSoonTasks(limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @Operation(summary = "Suggest assignees", description = "Autocompletes assignee names by prefix, ignoring case, most assigned first")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions",
+                content = @Content(schema = @Schema(implementation = AssigneeSuggestion.class, type = "array")))
+    @GetMapping(value = "/assignees", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<AssigneeSuggestion>> suggestAssignees(
+            @Parameter(description = "Start of the assignee name", example = "am")
+            @RequestParam(defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of suggestions", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(assigneeIndex.suggest(prefix, Math.min(limit, 100)));
+    }
+
+    @Operation(summary = "Get a calendar of tasks",
+               description = "Retrieves everything due in [from, to), including occurrences of recurring tasks expanded for the window. "
+                   + "The window may span at most 366 days.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array"))),
+        @ApiResponse(responseCode = "400", description = "Invalid or too large window")
+    })
+    @GetMapping(value = "/calendar", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<TaskResponse>> getCalendar(
+            @Parameter(description = "Start of the window (inclusive)", required = true, example = "2025-06-01T00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window (exclusive)", required = true, example = "2025-07-01T00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<TaskResponse> tasks = taskService.getCalendar(from, to);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @Operation(summary = "Stream deadline events", description = "Server-sent events fired when a task becomes due soon or overdue")
+    @GetMapping(value = "/deadlines/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDeadlineEvents() {
+        return deadlineEventStream.subscribe();
+    }
+
     @Operation(summary = "Get task by ID", description = "Retrieves a specific task by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved task",
                    content = @Content(schema = @Schema(implementation = TaskResponse.class))),
         @ApiResponse(responseCode = "404", description = "Task not found")
     })
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<TaskResponse> getTaskById(
             @Parameter(description = "ID of the task to be retrieved", required = true, example = "1")
             @PathVariable Long id) {
         TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(eTag(task)).body(task);
+    }
+
+    @Operation(summary = "Get similar tasks", description = "Retrieves tasks whose title and description closely match the given task")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved similar tasks",
+                   content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array"))),
+        @ApiResponse(responseCode = "400", description = "Negative limit"),
+        @ApiResponse(responseCode = "404", description = "Task not found")
+    })
+    @GetMapping(value = "/{id}/similar", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<TaskResponse>> getSimilarTasks(
+            @Parameter(description = "ID of the task to compare against", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Maximum number of similar tasks to return", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        requireAtLeast("limit", limit, 0);
+        List<TaskResponse> tasks = taskService.getSimilarTasks(id, limit);
+        return ResponseEntity.ok(tasks);
     }
 
     @Operation(summary = "Update a task", description = "Updates an existing task with the provided details")
@@ -113,15 +244,63 @@ public class TaskController {
         @ApiResponse(responseCode = "404", description = "Task not found")
     })
     @PutMapping(value = "/{id}", 
-               produces = MediaType.APPLICATION_JSON_VALUE, 
-               consumes = MediaType.APPLICATION_JSON_VALUE)
+               produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE}, 
+               consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<TaskResponse> updateTask(
             @Parameter(description = "ID of the task to be updated", required = true, example = "1")
             @PathVariable Long id, 
             @Parameter(description = "Updated task details", required = true)
             @Valid @RequestBody TaskRequest taskRequest) {
         TaskResponse response = taskService.updateTask(id, taskRequest);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
+    }
+
+    @Operation(summary = "Edit or complete one occurrence of a recurring task",
+               description = "The first change turns the occurrence into a task of its own, copied from the recurring task; "
+                   + "later changes update that task. Send status COMPLETED to complete it.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Occurrence saved successfully",
+                   content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input, or the task is not recurring"),
+        @ApiResponse(responseCode = "404", description = "Task not found, or it has no occurrence at that date")
+    })
+    @PutMapping(value = "/{id}/occurrences/{occurrenceDate}",
+               produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE},
+               consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<TaskResponse> saveOccurrence(
+            @Parameter(description = "ID of the recurring task", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Date and time of the occurrence", required = true, example = "2025-06-30T10:00")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceDate,
+            @Parameter(description = "Changes to the occurrence", required = true)
+            @Valid @RequestBody TaskRequest taskRequest) {
+        TaskResponse response = taskService.saveOccurrence(id, occurrenceDate, taskRequest);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
+    }
+
+    @Operation(summary = "Partially update a task",
+               description = "Applies a JSON Merge Patch (RFC 7396): only the fields present are changed, and null clears a field. "
+                   + "Send the task's ETag in If-Match to update only if nobody else has changed it meanwhile.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task updated successfully",
+                   content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid patch"),
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "409", description = "Task was modified concurrently"),
+        @ApiResponse(responseCode = "412", description = "Task no longer matches the If-Match version, or If-Match is a weak ETag")
+    })
+    @PatchMapping(value = "/{id}",
+                  produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE},
+                  consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponse> patchTask(
+            @Parameter(description = "ID of the task to be updated", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Fields to change", required = true)
+            @RequestBody JsonNode patch,
+            @Parameter(description = "ETag of the version the change is based on", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse response = taskService.patchTask(id, patch, parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @Operation(summary = "Delete a task", description = "Deletes a specific task by its ID")
@@ -140,35 +319,90 @@ public class TaskController {
     @Operation(summary = "Get tasks by assignee", description = "Retrieves all tasks assigned to a specific person")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks",
                 content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array")))
-    @GetMapping(value = "/assignee/{assigneeName}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/assignee/{assigneeName}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<List<TaskResponse>> getTasksByAssignee(
             @Parameter(description = "Name of the assignee", required = true, example = "Aman")
-            @PathVariable String assigneeName) {
-        List<TaskResponse> tasks = taskService.getTasksByAssignee(assigneeName);
+            @PathVariable String assigneeName,
+            @Parameter(description = "Comma-separated fields to return (default: id,title,assignee,dueDate,priority,status; * for all)",
+                      example = "title,dueDate,status")
+            @RequestParam(required = false) String fields) {
+        List<TaskResponse> tasks = taskService.getTasksByAssignee(assigneeName, fields);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @Operation(summary = "Get an assignee's most urgent tasks",
+               description = "Retrieves the assignee's open tasks ranked by priority, then due date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array"))),
+        @ApiResponse(responseCode = "400", description = "k is less than 1")
+    })
+    @GetMapping(value = "/assignee/{assigneeName}/next",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<TaskResponse>> getNextTasksForAssignee(
+            @Parameter(description = "Name of the assignee", required = true, example = "Aman")
+            @PathVariable String assigneeName,
+            @Parameter(description = "Number of tasks to return, at most 100", example = "20")
+            @RequestParam(defaultValue = "20") int k) {
+        requireAtLeast("k", k, 1);
+        List<TaskResponse> tasks = taskService.getNextTasksForAssignee(assigneeName, Math.min(k, AssigneeTaskRanking.MAX_K));
         return ResponseEntity.ok(tasks);
     }
 
     @Operation(summary = "Get tasks by priority", description = "Retrieves all tasks with a specific priority (P1, P2, P3, P4)")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks",
                 content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array")))
-    @GetMapping(value = "/priority/{priority}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/priority/{priority}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<List<TaskResponse>> getTasksByPriority(
             @Parameter(description = "Priority level (P1, P2, P3, P4)", required = true, example = "P1")
-            @PathVariable String priority) {
-        List<TaskResponse> tasks = taskService.getTasksByPriority(priority);
+            @PathVariable String priority,
+            @Parameter(description = "Comma-separated fields to return (default: id,title,assignee,dueDate,priority,status; * for all)",
+                      example = "title,dueDate,status")
+            @RequestParam(required = false) String fields) {
+        List<TaskResponse> tasks = taskService.getTasksByPriority(priority, fields);
         return ResponseEntity.ok(tasks);
     }
 
     @Operation(summary = "Get tasks by status", description = "Retrieves all tasks with a specific status")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks",
                 content = @Content(schema = @Schema(implementation = TaskResponse.class, type = "array")))
-    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/status/{status}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<List<TaskResponse>> getTasksByStatus(
             @Parameter(description = "Status of the tasks (e.g., PENDING, IN_PROGRESS, COMPLETED)", 
                       required = true, 
                       example = "PENDING")
-            @PathVariable String status) {
-        List<TaskResponse> tasks = taskService.getTasksByStatus(status);
+            @PathVariable String status,
+            @Parameter(description = "Comma-separated fields to return (default: id,title,assignee,dueDate,priority,status; * for all)",
+                      example = "title,dueDate,status")
+            @RequestParam(required = false) String fields) {
+        List<TaskResponse> tasks = taskService.getTasksByStatus(status, fields);
         return ResponseEntity.ok(tasks);
     }
+
+    private static String eTag(TaskResponse task) {
+        return task.getVersion() == null ? null : "\"" + task.getVersion() + "\"";
+    }
+
+    // Accepts "3" or 3; "*" means any version. If-Match uses strong comparison (RFC 9110),
+    // so a weak validator never matches
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match requires a strong ETag");
+        }
+        try {
+            return Long.parseLong(value.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must carry a task version ETag");
+        }
+    }
+
+    private static void requireAtLeast(String name, int value, int min) {
+        if (value < min) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " must be at least " + min);
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "A known assignee matching an autocomplete prefix")
+public class AssigneeSuggestion {
+    @Schema(description = "Name of the assignee, as last written on a task", example = "Aman")
+    private String name;
+
+    @Schema(description = "Number of tasks assigned to them", example = "12")
+    private int taskCount;
+}
@@ -25,7 +25,12 @@ public class TaskRequest {
     
     @Schema(description = "Priority of the task (P1, P2, P3, P4). Default is P3.", 
             example = "P2", allowableValues = {"P1", "P2", "P3", "P4"}, defaultValue = "P3")
-    private String priority = "P3";
+    private String priority;
 
-    private String status = "PENDING";
+    @Schema(description = "Status of the task. Default is PENDING.", example = "IN_PROGRESS", defaultValue = "PENDING")
+    private String status;
+
+    @Schema(description = "Makes the task a recurring template: an iCalendar RRULE subset (FREQ, INTERVAL, BYDAY, BYMONTHDAY, UNTIL). "
+            + "The due date is the first occurrence.", example = "FREQ=WEEKLY;BYDAY=MO", required = false)
+    private String recurrenceRule;
 }
@@ -1,14 +1,23 @@
 package com.taskmanager.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.taskmanager.model.Task;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Response object containing task details")
 public class TaskResponse {
+    /** Fields returned by list endpoints unless {@code fields=} asks for others. */
+    public static final List<String> SUMMARY_FIELDS = List.of("id", "title", "assignee", "dueDate", "priority", "status");
+    public static final List<String> ALL_FIELDS = List.of(
+        "id", "title", "description", "assignee", "dueDate", "priority", "status", "createdAt", "updatedAt", "version",
+        "recurrenceRule", "recurrenceParentId", "occurrenceDate");
+    
     @Schema(description = "Unique identifier of the task", example = "1")
     private Long id;
     
@@ -39,6 +48,24 @@ public class TaskResponse {
     @Schema(description = "Date and time when the task was last updated", example = "2025-05-29 14:45:00")
     private LocalDateTime updatedAt;
     
+    @Schema(description = "Version of the task, also sent as the ETag; pass it in If-Match to update conditionally", example = "3")
+    private Long version;
+    
+    @Schema(description = "Recurrence rule, set on recurring templates", example = "FREQ=WEEKLY;BYDAY=MO")
+    private String recurrenceRule;
+    
+    @Schema(description = "ID of the recurring template this occurrence belongs to. Occurrences without an ID "
+            + "have not been materialized yet; edit or complete them through the template's occurrence endpoint.", example = "7")
+    private Long recurrenceParentId;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    @Schema(description = "The template occurrence this task stands for", example = "2025-06-30 10:00")
+    private LocalDateTime occurrenceDate;
+    
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @Schema(description = "IDs of existing tasks that look like near-duplicates of this one (set on create)", example = "[12, 40]")
+    private List<Long> possibleDuplicates;
+    
     public static TaskResponse fromEntity(Task task) {
         TaskResponse response = new TaskResponse();
         response.setId(task.getId());
@@ -50,6 +77,24 @@ public class TaskResponse {
         response.setStatus(task.getStatus());
         response.setCreatedAt(task.getCreatedAt());
         response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
+        response.setRecurrenceRule(task.getRecurrenceRule());
+        response.setRecurrenceParentId(task.getRecurrenceParentId());
+        response.setOccurrenceDate(task.getOccurrenceDate());
+        return response;
+    }
+    
+    /** A not yet materialized occurrence of a recurring template. */
+    public static TaskResponse occurrenceOf(Task template, LocalDateTime occurrenceDate) {
+        TaskResponse response = new TaskResponse();
+        response.setTitle(template.getTitle());
+        response.setDescription(template.getDescription());
+        response.setAssignee(template.getAssignee());
+        response.setDueDate(occurrenceDate);
+        response.setPriority(template.getPriority());
+        response.setStatus(template.getStatus());
+        response.setRecurrenceParentId(template.getId());
+        response.setOccurrenceDate(occurrenceDate);
         return response;
     }
 }
@@ -0,0 +1,7 @@
+package com.taskmanager.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String key) {
+        super("Idempotency-Key '" + key + "' was already used with a different request payload");
+    }
+}
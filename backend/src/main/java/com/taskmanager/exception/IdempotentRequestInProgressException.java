@@ -0,0 +1,7 @@
+package com.taskmanager.exception;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+    public IdempotentRequestInProgressException(String key) {
+        super("A request with Idempotency-Key '" + key + "' is still being processed; retry later");
+    }
+}
@@ -2,11 +2,14 @@ package com.taskmanager.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate
+@Table(name = "tasks", uniqueConstraints = @UniqueConstraint(
+    name = "uk_tasks_recurrence_occurrence", columnNames = {"recurrence_parent_id", "occurrence_date"}))
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,12 +33,28 @@ public class Task {
     @Column(length = 20)
     private String status = "PENDING";
     
+    // RRULE subset (see RecurrenceRule); set on recurring templates, whose dueDate is the first occurrence
+    @Column(name = "recurrence_rule", length = 200)
+    private String recurrenceRule;
+    
+    // Set on occurrences of a template that were materialized because they were edited or completed
+    @Column(name = "recurrence_parent_id")
+    private Long recurrenceParentId;
+    
+    @Column(name = "occurrence_date")
+    private LocalDateTime occurrenceDate;
+    
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
     
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
     
+    // Left null on new tasks so Spring Data treats them as new; the default covers pre-existing rows
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long version;
+    
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -5,11 +5,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
-    List<Task> findByAssigneeIgnoreCase(String assignee);
-    List<Task> findByStatus(String status);
-    List<Task> findByPriority(String priority);
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+    List<Task> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+    List<Task> findByRecurrenceRuleIsNullAndDueDateBetween(LocalDateTime from, LocalDateTime to);
+    List<Task> findByRecurrenceRuleIsNotNullAndDueDateBefore(LocalDateTime to);
+    List<Task> findByRecurrenceParentIdInAndOccurrenceDateBetween(Collection<Long> parentIds, LocalDateTime from, LocalDateTime to);
+    Optional<Task> findByRecurrenceParentIdAndOccurrenceDate(Long parentId, LocalDateTime occurrenceDate);
 }
@@ -0,0 +1,35 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Selects only the given {@link TaskResponse} fields straight into response objects,
+     * so unrequested columns (notably the TEXT description) are never read.
+     */
+    Page<TaskResponse> findAllProjected(Specification<Task> spec, Set<String> fields, Pageable pageable);
+
+    /**
+     * Selects the given fields of the tasks with these IDs into response objects, in no
+     * particular order. No entities are loaded into the persistence context.
+     */
+    List<TaskResponse> findAllProjectedById(Collection<Long> ids, Set<String> fields);
+
+    /**
+     * Writes only the given attributes, without loading the task first, provided its
+     * version still equals {@code expectedVersion}. Bumps the version and {@code updatedAt}.
+     *
+     * @return the number of rows updated: 0 if the task is missing or the version moved on
+     */
+    int updateIfVersionMatches(Long id, long expectedVersion, Map<String, Object> changes);
+}
@@ -0,0 +1,127 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TaskResponse> findAllProjected(Specification<Task> spec, Set<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(selections(root, fields));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<TaskResponse> content = typedQuery.getResultList().stream()
+            .map(tuple -> toResponse(tuple, fields))
+            .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TaskResponse> findAllProjectedById(Collection<Long> ids, Set<String> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(selections(root, fields));
+        query.where(root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList().stream()
+            .map(tuple -> toResponse(tuple, fields))
+            .toList();
+    }
+
+    @Override
+    public int updateIfVersionMatches(Long id, long expectedVersion, Map<String, Object> changes) {
+        StringBuilder jpql = new StringBuilder("update Task t set t.version = t.version + 1, t.updatedAt = :updatedAt");
+        changes.keySet().forEach(attribute -> jpql.append(", t.").append(attribute).append(" = :").append(attribute));
+        jpql.append(" where t.id = :id and t.version = :version");
+
+        Query query = entityManager.createQuery(jpql.toString())
+            .setParameter("updatedAt", LocalDateTime.now())
+            .setParameter("id", id)
+            .setParameter("version", expectedVersion);
+        changes.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    private static List<Selection<?>> selections(Root<Task> root, Set<String> fields) {
+        return fields.stream()
+            .<Selection<?>>map(field -> root.get(field).alias(field))
+            .toList();
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static TaskResponse toResponse(Tuple tuple, Set<String> fields) {
+        TaskResponse response = new TaskResponse();
+        for (String field : fields) {
+            Object value = tuple.get(field);
+            switch (field) {
+                case "id" -> response.setId((Long) value);
+                case "title" -> response.setTitle((String) value);
+                case "description" -> response.setDescription((String) value);
+                case "assignee" -> response.setAssignee((String) value);
+                case "dueDate" -> response.setDueDate((LocalDateTime) value);
+                case "priority" -> response.setPriority((String) value);
+                case "status" -> response.setStatus((String) value);
+                case "createdAt" -> response.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> response.setUpdatedAt((LocalDateTime) value);
+                case "version" -> response.setVersion((Long) value);
+                case "recurrenceRule" -> response.setRecurrenceRule((String) value);
+                case "recurrenceParentId" -> response.setRecurrenceParentId((Long) value);
+                case "occurrenceDate" -> response.setOccurrenceDate((LocalDateTime) value);
+                default -> throw new IllegalArgumentException("Unknown task field: " + field);
+            }
+        }
+        return response;
+    }
+}
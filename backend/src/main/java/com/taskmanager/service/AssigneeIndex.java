@@ -0,0 +1,227 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.AssigneeSuggestion;
+import com.taskmanager.model.Task;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie over distinct assignee names, case-folded, with the number of tasks
+ * assigned to each. Children are kept in sorted parallel arrays rather than maps, and
+ * every node caches its {@value #CACHED_SUGGESTIONS} most assigned names, so a lookup
+ * is a walk down the prefix plus a copy of that list, whatever the number of names.
+ * Writes refresh the cached lists only along the changed name's path.
+ */
+@Component
+public class AssigneeIndex implements TaskChangeListener {
+
+    static final int CACHED_SUGGESTIONS = 10;
+
+    private static final Comparator<Node> BY_TASK_COUNT =
+        Comparator.comparingInt((Node node) -> node.count).reversed().thenComparing(node -> node.name);
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private String name; // Display form; set while count > 0
+        private int count;
+        private List<Node> top = List.of();
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            Node child = new Node();
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+
+    private final Node root = new Node();
+    private final Map<Long, String> assigneeByTask = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void onTaskSaved(Task task) {
+        String assignee = task.getAssignee() == null || task.getAssignee().isBlank() ? null : task.getAssignee().trim();
+        lock.writeLock().lock();
+        try {
+            String previous = assignee == null ? assigneeByTask.remove(task.getId()) : assigneeByTask.put(task.getId(), assignee);
+            if (previous != null) {
+                update(previous, -1);
+            }
+            if (assignee != null) {
+                update(assignee, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onTaskDeleted(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            String previous = assigneeByTask.remove(taskId);
+            if (previous != null) {
+                update(previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Assignees whose name starts with {@code prefix}, ignoring case, most assigned first. */
+    public List<AssigneeSuggestion> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(fold(prefix == null ? "" : prefix));
+            if (node == null) {
+                return List.of();
+            }
+            List<Node> matches;
+            if (limit <= CACHED_SUGGESTIONS) {
+                matches = node.top.subList(0, Math.min(limit, node.top.size()));
+            } else {
+                // Beyond the cached lists: rare, so a full walk of the subtree is acceptable
+                List<Node> all = new ArrayList<>();
+                collect(node, all);
+                all.sort(BY_TASK_COUNT);
+                matches = all.subList(0, Math.min(limit, all.size()));
+            }
+            return matches.stream()
+                .map(match -> new AssigneeSuggestion(match.name, match.count))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The known spelling of an assignee name, matched ignoring case. Names are never
+     * completed here: a prefix of a known name may just as well be a new person
+     * ("Sam" when only "Samantha" is known), so completions are left to {@link #suggest}.
+     */
+    public Optional<String> resolve(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(fold(name));
+            return node == null || node.count == 0 ? Optional.empty() : Optional.of(node.name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Adjusts one name's task count and refreshes the cached lists on its path; expects the write lock
+    private void update(String name, int delta) {
+        String key = fold(name);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = delta > 0 ? path[i].addChild(key.charAt(i)) : path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node node = path[key.length()];
+        node.count = Math.max(0, node.count + delta);
+        if (node.count == 0) {
+            node.name = null;
+        } else if (delta > 0) {
+            node.name = name;
+        }
+
+        for (int i = key.length(); i >= 0; i--) {
+            Node current = path[i];
+            if (i > 0 && current.count == 0 && current.keys.length == 0) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+                continue;
+            }
+            current.top = topOf(current);
+        }
+    }
+
+    private static List<Node> topOf(Node node) {
+        if (node.count == 0 && node.children.length == 1) {
+            return node.children[0].top; // Shared, not copied, along single-child chains
+        }
+        List<Node> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(node);
+        }
+        for (Node child : node.children) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(BY_TASK_COUNT);
+        return List.copyOf(candidates.subList(0, Math.min(CACHED_SUGGESTIONS, candidates.size())));
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, List<Node> into) {
+        if (node.count > 0) {
+            into.add(node);
+        }
+        for (Node child : node.children) {
+            collect(child, into);
+        }
+    }
+
+    private static String fold(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Per-assignee queues of open tasks ordered by urgency: priority first (P1 before P4),
+ * then earliest due date, with undated tasks last. Each queue is a sorted set, so an
+ * update is O(log n) and reading the top k is O(k) however large the backlog.
+ *
+ * <p>Recurring templates are left out: their due date only anchors the series, so it
+ * would rank them as the most urgent task forever. Occurrences that have become tasks
+ * of their own are ranked like any other task.
+ */
+@Component
+public class AssigneeTaskRanking implements TaskChangeListener {
+
+    /** Largest {@code k} the API serves. */
+    public static final int MAX_K = 100;
+
+    private static final String COMPLETED = "COMPLETED";
+
+    private record Entry(int priority, long due, long taskId) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int result = Integer.compare(priority, other.priority);
+            if (result == 0) {
+                result = Long.compare(due, other.due);
+            }
+            return result != 0 ? result : Long.compare(taskId, other.taskId);
+        }
+    }
+
+    private record Placement(String assignee, Entry entry) {
+    }
+
+    private final Map<String, NavigableSet<Entry>> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Placement> placements = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void onTaskSaved(Task task) {
+        remove(task.getId());
+        if (task.getAssignee() == null || task.getAssignee().isBlank()
+                || task.getRecurrenceRule() != null
+                || COMPLETED.equalsIgnoreCase(task.getStatus())) {
+            return;
+        }
+        long due = task.getDueDate() == null
+            ? Long.MAX_VALUE
+            : task.getDueDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Entry entry = new Entry(priorityRank(task.getPriority()), due, task.getId());
+        String assignee = key(task.getAssignee());
+        queues.computeIfAbsent(assignee, k -> new ConcurrentSkipListSet<>()).add(entry);
+        placements.put(task.getId(), new Placement(assignee, entry));
+    }
+
+    @Override
+    public synchronized void onTaskDeleted(Long taskId) {
+        remove(taskId);
+    }
+
+    /** IDs of the assignee's {@code k} most urgent open tasks, most urgent first. */
+    public List<Long> topK(String assignee, int k) {
+        NavigableSet<Entry> queue = queues.get(key(assignee));
+        if (queue == null || k <= 0) {
+            return List.of();
+        }
+        // Bounded by a constant: size() of a skip-list set walks the whole queue
+        List<Long> ids = new ArrayList<>(Math.min(k, MAX_K));
+        for (Entry entry : queue) {
+            if (ids.size() >= k) {
+                break;
+            }
+            ids.add(entry.taskId());
+        }
+        return ids;
+    }
+
+    private void remove(Long taskId) {
+        Placement placement = placements.remove(taskId);
+        if (placement == null) {
+            return;
+        }
+        NavigableSet<Entry> queue = queues.get(placement.assignee());
+        if (queue != null) {
+            queue.remove(placement.entry());
+            if (queue.isEmpty()) {
+                queues.remove(placement.assignee(), queue);
+            }
+        }
+    }
+
+    private static String key(String assignee) {
+        return assignee.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int priorityRank(String priority) {
+        if (priority != null && priority.length() == 2 && Character.toUpperCase(priority.charAt(0)) == 'P') {
+            int level = priority.charAt(1) - '0';
+            if (level >= 1 && level <= 4) {
+                return level;
+            }
+        }
+        return 5;
+    }
+}
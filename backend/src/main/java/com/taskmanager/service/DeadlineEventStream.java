@@ -0,0 +1,43 @@
+package com.taskmanager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes {@link TaskDeadlineEvent}s to connected clients over server-sent events.
+ */
+@Slf4j
+@Component
+public class DeadlineEventStream {
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    @EventListener
+    public void onDeadline(TaskDeadlineEvent event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                    .name(event.type().name().toLowerCase().replace('_', '-'))
+                    .data(event));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping deadline subscriber: {}", e.getMessage());
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks task due dates in a {@link HierarchicalTimingWheel} driven by a single
+ * thread. Each open task with a due date gets a due-soon timer ({@code due-soon-lead}
+ * before the deadline) and an overdue timer; when they fire the task moves into the
+ * due-soon or overdue set and a {@link TaskDeadlineEvent} is logged and published.
+ * Events are handed to a separate publisher thread, so slow subscribers (such as SSE
+ * clients) cannot hold up the wheel.
+ *
+ * <p>Tasks that are already past a threshold when scheduled (at startup, or saved with a
+ * past due date) go straight into the matching set without an event, so a restart does
+ * not replay notifications for everything that is already overdue.
+ *
+ * <p>A recurring template only ever has its next occurrence on the wheel. When that
+ * occurrence passes, the overdue event fires and the following occurrence is scheduled.
+ * The template itself never enters the due-soon or overdue set, since its own due date
+ * only anchors the series; the due-soon and overdue queries expand its occurrences
+ * on demand. Occurrences that have been materialized as tasks of their own are
+ * tracked as those tasks instead.
+ */
+@Slf4j
+@Component
+public class DeadlineScheduler implements TaskChangeListener {
+
+    private static final String COMPLETED = "COMPLETED";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final long tickMillis;
+    private final long dueSoonLeadMillis;
+    private final HierarchicalTimingWheel<Deadline> wheel;
+    private final Map<Long, List<HierarchicalTimingWheel.Timer<Deadline>>> timersByTask = new HashMap<>();
+    private final DeadlineSet dueSoon = new DeadlineSet();
+    private final DeadlineSet overdue = new DeadlineSet();
+    private final Map<Long, Recurrence> recurrences = new HashMap<>();
+    private final Map<Long, Occurrence> materializedOccurrences = new HashMap<>();
+    private final Map<Occurrence, Long> occurrenceTasks = new HashMap<>();
+    private ScheduledExecutorService ticker;
+    private ExecutorService publisher;
+
+    public DeadlineScheduler(ApplicationEventPublisher eventPublisher,
+                             @Value("${taskmanager.deadlines.tick:1s}") Duration tick,
+                             @Value("${taskmanager.deadlines.due-soon-lead:1h}") Duration dueSoonLead) {
+        this.eventPublisher = eventPublisher;
+        this.tickMillis = Math.max(1, tick.toMillis());
+        this.dueSoonLeadMillis = dueSoonLead.toMillis();
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+    }
+
+    private record Deadline(Long taskId, TaskDeadlineEvent.Type type, LocalDateTime dueDate) {
+    }
+
+    private record Recurrence(RecurrenceRule rule, LocalDateTime anchor) {
+    }
+
+    private record Occurrence(Long templateId, LocalDateTime occurrenceDate) {
+    }
+
+    @PostConstruct
+    void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deadline-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        publisher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deadline-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+        publisher.shutdownNow();
+    }
+
+    @Override
+    public void onTaskSaved(Task task) {
+        synchronized (wheel) {
+            cancel(task.getId());
+            if (task.getRecurrenceParentId() != null && task.getOccurrenceDate() != null
+                    && task.getOccurrenceDate().isAfter(LocalDateTime.now())) {
+                Occurrence occurrence = new Occurrence(task.getRecurrenceParentId(), task.getOccurrenceDate());
+                materializedOccurrences.put(task.getId(), occurrence);
+                occurrenceTasks.put(occurrence, task.getId());
+            }
+            if (task.getDueDate() == null || COMPLETED.equalsIgnoreCase(task.getStatus())) {
+                return;
+            }
+            if (task.getRecurrenceRule() != null) {
+                try {
+                    Recurrence recurrence = new Recurrence(RecurrenceRule.parse(task.getRecurrenceRule()), task.getDueDate());
+                    scheduleNextOccurrence(task.getId(), recurrence, LocalDateTime.now());
+                } catch (IllegalArgumentException e) {
+                    log.warn("Not tracking deadlines of task {}, its recurrence rule is invalid: {}", task.getId(), e.getMessage());
+                }
+                return;
+            }
+            long due = toEpochMillis(task.getDueDate());
+            long now = System.currentTimeMillis();
+            List<HierarchicalTimingWheel.Timer<Deadline>> timers = new ArrayList<>(2);
+            if (due <= now) {
+                overdue.add(task.getId(), due);
+            } else {
+                timers.add(wheel.schedule(due,
+                    new Deadline(task.getId(), TaskDeadlineEvent.Type.OVERDUE, task.getDueDate())));
+                if (due - dueSoonLeadMillis <= now) {
+                    dueSoon.add(task.getId(), due);
+                } else {
+                    timers.add(wheel.schedule(due - dueSoonLeadMillis,
+                        new Deadline(task.getId(), TaskDeadlineEvent.Type.DUE_SOON, task.getDueDate())));
+                }
+            }
+            if (!timers.isEmpty()) {
+                timersByTask.put(task.getId(), timers);
+            }
+        }
+    }
+
+    @Override
+    public void onTaskDeleted(Long taskId) {
+        synchronized (wheel) {
+            cancel(taskId);
+        }
+    }
+
+    /** IDs of overdue tasks, longest overdue first. */
+    public List<Long> getOverdueTaskIds(int limit) {
+        return overdue.first(limit);
+    }
+
+    /** How long before its deadline a task counts as due soon. */
+    public Duration getDueSoonLead() {
+        return Duration.ofMillis(dueSoonLeadMillis);
+    }
+
+    /** IDs of tasks due within the due-soon window, soonest first. */
+    public List<Long> getDueSoonTaskIds(int limit) {
+        return dueSoon.first(limit);
+    }
+
+    private void advance() {
+        List<Deadline> fired = new ArrayList<>();
+        try {
+            synchronized (wheel) {
+                List<Deadline> passedOccurrences = new ArrayList<>();
+                wheel.advanceTo(System.currentTimeMillis(), deadline -> {
+                    boolean recurring = recurrences.containsKey(deadline.taskId());
+                    boolean materialized = recurring && isMaterialized(deadline);
+                    if (!materialized) {
+                        fired.add(deadline);
+                    }
+                    long due = toEpochMillis(deadline.dueDate());
+                    if (deadline.type() == TaskDeadlineEvent.Type.OVERDUE) {
+                        timersByTask.remove(deadline.taskId());
+                        dueSoon.remove(deadline.taskId());
+                        if (recurring) {
+                            passedOccurrences.add(deadline);
+                        } else {
+                            overdue.add(deadline.taskId(), due);
+                        }
+                    } else if (!recurring) {
+                        dueSoon.add(deadline.taskId(), due);
+                    }
+                });
+                // Rescheduled once the wheel has finished advancing, not from inside its callback
+                for (Deadline passed : passedOccurrences) {
+                    Long occurrenceTask = occurrenceTasks.remove(new Occurrence(passed.taskId(), passed.dueDate()));
+                    if (occurrenceTask != null) {
+                        materializedOccurrences.remove(occurrenceTask);
+                    }
+                    scheduleNextOccurrence(passed.taskId(), recurrences.get(passed.taskId()), passed.dueDate().plusSeconds(1));
+                }
+            }
+            if (!fired.isEmpty()) {
+                publisher.execute(() -> publish(fired));
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic task and stop the wheel for good
+            log.error("Failed to advance deadline wheel", e);
+        }
+    }
+
+    // Runs on the publisher thread; listeners are synchronous, so this is where slow subscribers wait
+    private void publish(List<Deadline> fired) {
+        for (Deadline deadline : fired) {
+            log.info("Task {} is {} (due {})", deadline.taskId(),
+                deadline.type() == TaskDeadlineEvent.Type.OVERDUE ? "overdue" : "due soon", deadline.dueDate());
+            try {
+                eventPublisher.publishEvent(new TaskDeadlineEvent(deadline.taskId(), deadline.type(), deadline.dueDate()));
+            } catch (RuntimeException e) {
+                log.error("Failed to publish deadline event for task {}", deadline.taskId(), e);
+            }
+        }
+    }
+
+    // Puts a template's next occurrence after 'after' on the wheel; expects the wheel lock to be held
+    private void scheduleNextOccurrence(Long taskId, Recurrence recurrence, LocalDateTime after) {
+        LocalDateTime next = recurrence.rule().nextOnOrAfter(recurrence.anchor(), after);
+        if (next == null) {
+            recurrences.remove(taskId); // The rule has ended
+            return;
+        }
+        recurrences.put(taskId, recurrence);
+        long due = toEpochMillis(next);
+        List<HierarchicalTimingWheel.Timer<Deadline>> timers = new ArrayList<>(2);
+        timers.add(wheel.schedule(due, new Deadline(taskId, TaskDeadlineEvent.Type.OVERDUE, next)));
+        // Only for the event; the template stays out of the due-soon set
+        if (due - dueSoonLeadMillis > System.currentTimeMillis()) {
+            timers.add(wheel.schedule(due - dueSoonLeadMillis, new Deadline(taskId, TaskDeadlineEvent.Type.DUE_SOON, next)));
+        }
+        timersByTask.put(taskId, timers);
+    }
+
+    // Whether a template occurrence has become a task of its own, which then carries its own deadline
+    private boolean isMaterialized(Deadline deadline) {
+        return occurrenceTasks.containsKey(new Occurrence(deadline.taskId(), deadline.dueDate()));
+    }
+
+    private void cancel(Long taskId) {
+        List<HierarchicalTimingWheel.Timer<Deadline>> timers = timersByTask.remove(taskId);
+        if (timers != null) {
+            timers.forEach(wheel::cancel);
+        }
+        dueSoon.remove(taskId);
+        overdue.remove(taskId);
+        recurrences.remove(taskId);
+        Occurrence occurrence = materializedOccurrences.remove(taskId);
+        if (occurrence != null) {
+            occurrenceTasks.remove(occurrence, taskId);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /** Task IDs ordered by due date, with O(log n) removal by ID. */
+    private static final class DeadlineSet {
+        private record Entry(long due, long taskId) implements Comparable<Entry> {
+            @Override
+            public int compareTo(Entry other) {
+                int byDue = Long.compare(due, other.due);
+                return byDue != 0 ? byDue : Long.compare(taskId, other.taskId);
+            }
+        }
+
+        private final ConcurrentSkipListSet<Entry> ordered = new ConcurrentSkipListSet<>();
+        private final Map<Long, Entry> byTask = new ConcurrentHashMap<>();
+
+        void add(Long taskId, long due) {
+            Entry entry = new Entry(due, taskId);
+            Entry previous = byTask.put(taskId, entry);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+            ordered.add(entry);
+        }
+
+        void remove(Long taskId) {
+            Entry previous = byTask.remove(taskId);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+        }
+
+        List<Long> first(int limit) {
+            List<Long> ids = new ArrayList<>(Math.min(limit, byTask.size()));
+            for (Entry entry : ordered) {
+                if (ids.size() >= limit) {
+                    break;
+                }
+                ids.add(entry.taskId());
+            }
+            return ids;
+        }
+    }
+}
@@ -6,18 +6,31 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import com.taskmanager.dto.TaskRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.*;
 import java.time.format.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class GeminiService {
     private static final Gson GSON = new Gson();
+    private static final Pattern SPEAKER_TURN = Pattern.compile("(?m)^(?=[ \\t]*[A-Za-z][\\w .'-]{0,40}:\\s)");
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\R[ \\t]*\\R");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     
@@ -111,10 +124,256 @@ public class GeminiService {
     @Value("${gemini.model}")
     private String modelName;
 
+    // Overridable so extraction can run against a stub upstream
+    @Value("${gemini.api-url:https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent}")
+    private String apiUrl;
+
+    @Value("${gemini.chunking.max-chunk-chars:8000}")
+    private int maxChunkChars;
+
+    @Value("${gemini.chunking.overlap-chars:600}")
+    private int overlapChars;
+
+    @Value("${gemini.chunking.max-in-flight:4}")
+    private int maxInFlight;
+
+    @Value("${gemini.chunking.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${gemini.chunking.retry-backoff:500ms}")
+    private Duration retryBackoff;
+
+    private final TaskSimilarityIndex similarityIndex;
     private final RestTemplate restTemplate = new RestTemplate();
-    private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent";
-    
+    private ExecutorService chunkExecutor;
+
+    @PostConstruct
+    void start() {
+        if (overlapChars < 0 || overlapChars * 2 > maxChunkChars) {
+            throw new IllegalStateException("gemini.chunking.overlap-chars must be between 0 and half of max-chunk-chars");
+        }
+        // The pool size is the in-flight limit, shared by all concurrent extractions
+        AtomicInteger counter = new AtomicInteger();
+        chunkExecutor = Executors.newFixedThreadPool(Math.max(1, maxInFlight), runnable -> {
+            Thread thread = new Thread(runnable, "gemini-chunk-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        chunkExecutor.shutdownNow();
+    }
+
+    /**
+     * Extracts tasks from meeting minutes. Transcripts longer than {@code max-chunk-chars}
+     * are split at speaker turns (or paragraphs) into chunks that repeat the tail of the
+     * previous chunk, so an action item spanning a boundary is seen whole at least once.
+     * Chunks are extracted concurrently, each retried on its own, and tasks found twice
+     * in the overlap of neighbouring chunks are merged. If some chunks still fail, the
+     * tasks from the others are returned; only if all fail does the extraction fail.
+     */
     public List<TaskRequest> parseMeetingMinutes(String transcript) {
+        List<String> chunks = splitTranscript(transcript);
+        if (chunks.size() == 1) {
+            return extractWithRetry(chunks.get(0), 1, 1);
+        }
+
+        List<CompletableFuture<List<TaskRequest>>> futures = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            String chunk = chunks.get(i);
+            int index = i + 1;
+            futures.add(CompletableFuture.supplyAsync(() -> extractWithRetry(chunk, index, chunks.size()), chunkExecutor));
+        }
+
+        List<List<TaskRequest>> results = new ArrayList<>(chunks.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<List<TaskRequest>> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                results.add(null);
+            }
+        }
+        long failed = results.stream().filter(Objects::isNull).count();
+        if (failed == chunks.size()) {
+            throw failure;
+        }
+        if (failed > 0) {
+            log.warn("{} of {} transcript chunks failed, returning tasks from the rest: {}",
+                failed, chunks.size(), failure.getMessage());
+        }
+        return mergeChunkResults(results);
+    }
+
+    List<String> splitTranscript(String transcript) {
+        if (transcript.length() <= maxChunkChars) {
+            return List.of(transcript);
+        }
+        Pattern boundary = SPEAKER_TURN.matcher(transcript).results().limit(2).count() > 1 ? SPEAKER_TURN : PARAGRAPH_BREAK;
+        // Units are capped so that a chunk with its carried-over overlap stays within max-chunk-chars
+        int maxUnitChars = maxChunkChars - overlapChars;
+        List<String> units = new ArrayList<>();
+        for (String unit : boundary.split(transcript)) {
+            if (!unit.isBlank()) {
+                addUnit(units, unit.strip(), maxUnitChars);
+            }
+        }
+
+        List<String> chunks = new ArrayList<>();
+        Deque<String> current = new ArrayDeque<>();
+        int length = 0;
+        boolean hasNewUnits = false;
+        for (String unit : units) {
+            if (hasNewUnits && length + unit.length() > maxChunkChars) {
+                chunks.add(String.join("\n", current));
+                Deque<String> overlap = new ArrayDeque<>();
+                int overlapLength = 0;
+                for (Iterator<String> tail = current.descendingIterator(); tail.hasNext(); ) {
+                    String carried = tail.next();
+                    if (overlapLength + carried.length() + 1 > overlapChars) {
+                        break;
+                    }
+                    overlap.addFirst(carried);
+                    overlapLength += carried.length() + 1;
+                }
+                // With an overlap of 0 (or 1, the joining newline) there is no tail to carry
+                if (overlap.isEmpty() && overlapChars > 1) {
+                    // The last unit alone is longer than the overlap; carry its closing sentences instead
+                    String tail = current.getLast().substring(current.getLast().length() - overlapChars + 1);
+                    String[] sentences = SENTENCE_END.split(tail, 2);
+                    overlap.add(sentences.length > 1 ? sentences[1] : tail);
+                    overlapLength = overlap.getFirst().length() + 1;
+                }
+                current = overlap;
+                length = overlapLength;
+                hasNewUnits = false;
+            }
+            current.addLast(unit);
+            length += unit.length() + 1;
+            hasNewUnits = true;
+        }
+        if (hasNewUnits) {
+            chunks.add(String.join("\n", current));
+        }
+        return chunks;
+    }
+
+    // Splits an oversized speaker turn or paragraph at sentence ends, or hard as a last resort
+    private static void addUnit(List<String> units, String unit, int maxUnitChars) {
+        if (unit.length() <= maxUnitChars) {
+            units.add(unit);
+            return;
+        }
+        StringBuilder piece = new StringBuilder();
+        for (String sentence : SENTENCE_END.split(unit)) {
+            if (piece.length() > 0 && piece.length() + 1 + sentence.length() > maxUnitChars) {
+                units.add(piece.toString());
+                piece.setLength(0);
+            }
+            while (sentence.length() > maxUnitChars) {
+                units.add(sentence.substring(0, maxUnitChars));
+                sentence = sentence.substring(maxUnitChars);
+            }
+            if (piece.length() > 0) {
+                piece.append(' ');
+            }
+            piece.append(sentence);
+        }
+        if (piece.length() > 0) {
+            units.add(piece.toString());
+        }
+    }
+
+    private List<TaskRequest> extractWithRetry(String chunk, int index, int count) {
+        long backoffMillis = retryBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return extractFromChunk(chunk);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                log.warn("Transcript chunk {}/{} failed on attempt {} of {}, retrying: {}",
+                    index, count, attempt, maxAttempts, e.getMessage());
+                try {
+                    // Jittered so chunks that failed together do not retry in lockstep
+                    Thread.sleep(backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoffMillis *= 2;
+            }
+        }
+    }
+
+    // Client errors other than throttling and timeouts would fail the same way again
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException clientError) {
+                int status = clientError.getStatusCode().value();
+                return status == 429 || status == 408;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Concatenates the per-chunk task lists, folding a task into one from the previous
+     * chunk when both look like the same action item read twice from the overlap. The
+     * first copy is kept and only gains the fields it is missing.
+     */
+    private List<TaskRequest> mergeChunkResults(List<List<TaskRequest>> results) {
+        List<TaskRequest> merged = new ArrayList<>();
+        List<TaskRequest> previousChunk = List.of();
+        for (List<TaskRequest> chunkTasks : results) {
+            if (chunkTasks == null) {
+                previousChunk = List.of();
+                continue;
+            }
+            for (TaskRequest task : chunkTasks) {
+                Optional<TaskRequest> duplicate = previousChunk.stream()
+                    .filter(candidate -> isSameTask(candidate, task))
+                    .findFirst();
+                if (duplicate.isPresent()) {
+                    fillMissing(duplicate.get(), task);
+                } else {
+                    merged.add(task);
+                }
+            }
+            previousChunk = chunkTasks;
+        }
+        return merged;
+    }
+
+    private boolean isSameTask(TaskRequest first, TaskRequest second) {
+        if (first.getAssignee() != null && second.getAssignee() != null
+                && !first.getAssignee().equalsIgnoreCase(second.getAssignee())) {
+            return false;
+        }
+        return similarityIndex.similarity(textOf(first), textOf(second)) >= similarityIndex.getThreshold();
+    }
+
+    private static void fillMissing(TaskRequest kept, TaskRequest duplicate) {
+        if (kept.getAssignee() == null) {
+            kept.setAssignee(duplicate.getAssignee());
+        }
+        if (kept.getDueDate() == null) {
+            kept.setDueDate(duplicate.getDueDate());
+        }
+        if (kept.getDescription() == null) {
+            kept.setDescription(duplicate.getDescription());
+        }
+    }
+
+    private static String textOf(TaskRequest task) {
+        return (task.getTitle() == null ? "" : task.getTitle()) + " " + (task.getDescription() == null ? "" : task.getDescription());
+    }
+
+    private List<TaskRequest> extractFromChunk(String transcript) {
         try {
             // Prepare the request headers
             HttpHeaders headers = new HttpHeaders();
@@ -170,7 +429,7 @@ public class GeminiService {
             requestBody.add("generationConfig", generationConfig);
             
             // Make the API request
-            String url = String.format("%s?key=%s", GEMINI_API_URL, apiKey);
+            String url = String.format("%s?key=%s", apiUrl, apiKey);
             HttpEntity<String> request = new HttpEntity<>(requestBody.toString(), headers);
             
             ResponseEntity<String> response = restTemplate.exchange(
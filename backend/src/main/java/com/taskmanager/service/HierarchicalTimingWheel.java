@@ -0,0 +1,144 @@
+package com.taskmanager.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with {@value #LEVELS} levels of {@value #SLOTS} slots.
+ * Level 0 has one slot per tick; each higher level covers {@value #SLOTS} times the
+ * span of the one below and is cascaded down when the lower level wraps around.
+ * Scheduling and cancelling are O(1); advancing costs O(1) per tick plus the timers
+ * that expire or cascade. Deadlines beyond the top level are parked in its furthest
+ * slot and re-placed each time that slot cascades.
+ *
+ * <p>Not thread-safe: callers serialise access.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_SPAN = 1L << (BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Timer<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new Timer[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer<T> head = new Timer<>(0, null);
+                head.prev = head;
+                head.next = head;
+                wheels[level][slot] = head;
+            }
+        }
+    }
+
+    static final class Timer<T> {
+        private final long expiryTick;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long expiryTick, T payload) {
+            this.expiryTick = expiryTick;
+            this.payload = payload;
+        }
+
+        T payload() {
+            return payload;
+        }
+    }
+
+    Timer<T> schedule(long deadlineMillis, T payload) {
+        // Round up so a timer never fires before its deadline
+        Timer<T> timer = new Timer<>(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), payload);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    void cancel(Timer<T> timer) {
+        if (timer.next == null) {
+            return; // Already fired or cancelled
+        }
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * Processes every tick up to and including the one containing {@code nowMillis},
+     * handing expired payloads to {@code onExpiry} in deadline order.
+     */
+    void advanceTo(long nowMillis, Consumer<T> onExpiry) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick <= targetTick) {
+            int index = (int) (currentTick & MASK);
+            if (index == 0) {
+                cascade(1);
+            }
+            Timer<T> head = wheels[0][index];
+            currentTick++;
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                unlink(timer);
+                size--;
+                onExpiry.accept(timer.payload);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        if (level >= LEVELS) {
+            return;
+        }
+        int index = (int) ((currentTick >>> (BITS * level)) & MASK);
+        if (index == 0) {
+            cascade(level + 1);
+        }
+        Timer<T> head = wheels[level][index];
+        while (head.next != head) {
+            Timer<T> timer = head.next;
+            unlink(timer);
+            place(timer);
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long delta = timer.expiryTick - currentTick;
+        Timer<T> head;
+        if (delta < 0) {
+            head = wheels[0][(int) (currentTick & MASK)];
+        } else if (delta >= MAX_SPAN) {
+            long parked = currentTick + MAX_SPAN - 1;
+            head = wheels[LEVELS - 1][(int) ((parked >>> (BITS * (LEVELS - 1))) & MASK)];
+        } else {
+            int level = 0;
+            while (delta >= 1L << (BITS * (level + 1))) {
+                level++;
+            }
+            head = wheels[level][(int) ((timer.expiryTick >>> (BITS * level)) & MASK)];
+        }
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.exception.IdempotencyKeyReuseException;
+import com.taskmanager.exception.IdempotentRequestInProgressException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcome of POST requests sent with an {@code Idempotency-Key} header.
+ * A retry with the same key gets the stored response without redoing the work, or,
+ * if the original is still running, waits up to {@code retry-wait} for it and shares
+ * its result (or gets a 409 if it is still running then). Failed requests are
+ * forgotten so that a retry can try again.
+ *
+ * <p>Keys are kept in memory on each instance. Behind a load balancer a retry that
+ * lands on another instance is not recognised and runs the request again, so clients
+ * only get the guarantee with sticky routing or a single instance.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final byte[] NO_PAYLOAD = new byte[0];
+
+    private final long ttlMillis;
+    private final long retryWaitMillis;
+    private final ObjectMapper canonicalMapper;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            @Value("${taskmanager.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${taskmanager.idempotency.retry-wait:10s}") Duration retryWait) {
+        this.ttlMillis = ttl.toMillis();
+        this.retryWaitMillis = retryWait.toMillis();
+        // Same modules as the request mapper, but with a stable property and key order so
+        // that equal bodies always serialize to the same bytes
+        this.canonicalMapper = objectMapper.copy();
+        canonicalMapper.setConfig(canonicalMapper.getSerializationConfig()
+            .with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+    }
+
+    /**
+     * Runs {@code action} once per (scope, key). {@code payload} identifies the request
+     * body; reusing a key with a different payload is rejected.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String scope, String key, Object payload, Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        String storeKey = scope + ":" + key.trim();
+        byte[] fingerprint = fingerprint(payload);
+        Entry fresh = new Entry(fingerprint);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.compute(storeKey,
+            (k, current) -> current == null || current.isExpired(now) ? fresh : current);
+
+        if (entry != fresh) {
+            if (!MessageDigest.isEqual(entry.fingerprint, fingerprint)) {
+                throw new IdempotencyKeyReuseException(key);
+            }
+            log.debug("Replaying response for idempotency key {}", storeKey);
+            ResponseEntity<T> original = (ResponseEntity<T>) await(entry.response, key);
+            return ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(original.getBody());
+        }
+
+        ResponseEntity<T> response = null;
+        Throwable failure = null;
+        try {
+            response = action.get();
+            return response;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (response != null) {
+                fresh.expiresAt = System.currentTimeMillis() + ttlMillis;
+                fresh.response.complete(response);
+            } else {
+                // Covers Errors and null responses too, so the key never stays in flight
+                entries.remove(storeKey, fresh);
+                fresh.response.completeExceptionally(failure != null ? failure
+                    : new IllegalStateException("Request produced no response"));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.idempotency.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    // SHA-256 of the body's canonical JSON; a hash code is too weak to tell payloads apart
+    private byte[] fingerprint(Object payload) {
+        if (payload == null) {
+            return NO_PAYLOAD;
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(canonicalMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request body cannot be fingerprinted", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Bounded, so a stuck original cannot tie up the thread of every retry
+    private ResponseEntity<?> await(CompletableFuture<ResponseEntity<?>> response, String key) {
+        try {
+            return response.get(retryWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotentRequestInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException(key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+        // In-flight entries never expire; the TTL starts once the response is stored
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
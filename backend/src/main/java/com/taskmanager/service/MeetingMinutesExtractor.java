@@ -0,0 +1,277 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.dto.TaskResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Turns meeting minutes into tasks within a latency budget. The Gemini extraction is
+ * raced against a local heuristic that runs {@link NLParserService} over the sentences
+ * that look like action items. If Gemini answers within the budget its tasks are used;
+ * otherwise whichever extraction succeeds first answers the request. When that is the
+ * heuristic, its tasks are created and, once Gemini does answer, upgraded in place with
+ * its richer titles, assignees and dates unless the user has edited them meanwhile.
+ *
+ * <p>Gemini calls, heuristic parsing and upgrades run on separate pools, so a backlog
+ * of slow Gemini calls cannot starve the heuristic it is meant to be hedged by.
+ */
+@Slf4j
+@Service
+public class MeetingMinutesExtractor {
+
+    public enum Source {
+        GEMINI,
+        HEURISTIC
+    }
+
+    public record Result(Source source, List<TaskResponse> tasks, boolean upgradePending) {
+    }
+
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?])\\s+|\\R+");
+    private static final Pattern SPEAKER_PREFIX = Pattern.compile("^\\s*[A-Za-z][\\w .'-]{0,40}:\\s+");
+    private static final Pattern ACTION_ITEM = Pattern.compile(
+        "\\b(will|shall|should|must|needs? to|has to|have to|going to|action item|todo|to-do|follow up"
+            + "|please|assign(?:ed)? to|@\\w+|by (?:tomorrow|tonight|today|eod|eow|next|monday|tuesday|wednesday"
+            + "|thursday|friday|saturday|sunday)|deadline|due)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private final GeminiService geminiService;
+    private final NLParserService nlParserService;
+    private final TaskService taskService;
+    private final TaskSimilarityIndex similarityIndex;
+    private final boolean hedgingEnabled;
+    private final long latencyBudgetMillis;
+    private final ExecutorService geminiExecutor;
+    private final ExecutorService heuristicExecutor;
+    private final ExecutorService upgradeExecutor;
+
+    public MeetingMinutesExtractor(GeminiService geminiService,
+                                   NLParserService nlParserService,
+                                   TaskService taskService,
+                                   TaskSimilarityIndex similarityIndex,
+                                   @Value("${taskmanager.meeting-minutes.hedging.enabled:false}") boolean hedgingEnabled,
+                                   @Value("${taskmanager.meeting-minutes.hedging.latency-budget:3s}") Duration latencyBudget,
+                                   @Value("${taskmanager.meeting-minutes.hedging.threads:8}") int threads,
+                                   @Value("${taskmanager.meeting-minutes.hedging.heuristic-threads:4}") int heuristicThreads) {
+        this.geminiService = geminiService;
+        this.nlParserService = nlParserService;
+        this.taskService = taskService;
+        this.similarityIndex = similarityIndex;
+        this.hedgingEnabled = hedgingEnabled;
+        this.latencyBudgetMillis = latencyBudget.toMillis();
+        this.geminiExecutor = newPool("meeting-minutes-gemini-", Math.max(1, threads));
+        this.heuristicExecutor = newPool("meeting-minutes-heuristic-", Math.max(1, heuristicThreads));
+        this.upgradeExecutor = newPool("meeting-minutes-upgrade-", 1);
+    }
+
+    // A sentence future per action item plus their combined result, so that all can be cancelled
+    private record HeuristicExtraction(List<CompletableFuture<TaskRequest>> sentences,
+                                       CompletableFuture<List<TaskRequest>> tasks) {
+        void cancel() {
+            tasks.cancel(false);
+            sentences.forEach(sentence -> sentence.cancel(false));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        geminiExecutor.shutdownNow();
+        heuristicExecutor.shutdownNow();
+        upgradeExecutor.shutdownNow();
+    }
+
+    public Result extractTasks(String transcript, boolean mergeDuplicates) {
+        if (!hedgingEnabled) {
+            List<TaskRequest> extracted = geminiService.parseMeetingMinutes(transcript);
+            return new Result(Source.GEMINI, taskService.createTasks(extracted, mergeDuplicates), false);
+        }
+
+        CompletableFuture<List<TaskRequest>> gemini =
+            CompletableFuture.supplyAsync(() -> geminiService.parseMeetingMinutes(transcript), geminiExecutor);
+        HeuristicExtraction heuristic = extractHeuristically(transcript);
+
+        try {
+            List<TaskRequest> extracted = gemini.get(latencyBudgetMillis, TimeUnit.MILLISECONDS);
+            heuristic.cancel();
+            return new Result(Source.GEMINI, taskService.createTasks(extracted, mergeDuplicates), false);
+        } catch (TimeoutException e) {
+            log.info("Gemini missed the {} ms budget, using whichever extraction finishes first", latencyBudgetMillis);
+        } catch (ExecutionException e) {
+            log.warn("Gemini extraction failed, using heuristic extraction: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            throw interrupted(gemini, heuristic, e);
+        }
+
+        try {
+            awaitFirstSuccess(gemini, heuristic.tasks());
+        } catch (InterruptedException e) {
+            throw interrupted(gemini, heuristic, e);
+        }
+        // Gemini may have caught up while the heuristic was still parsing
+        if (gemini.isDone() && !gemini.isCompletedExceptionally()) {
+            heuristic.cancel();
+            return new Result(Source.GEMINI, taskService.createTasks(gemini.join(), mergeDuplicates), false);
+        }
+        if (heuristic.tasks().isCompletedExceptionally()) {
+            throw failure(gemini);
+        }
+
+        Set<Long> createdIds = new HashSet<>();
+        List<TaskResponse> tasks = taskService.createTasks(heuristic.tasks().join(), mergeDuplicates, createdIds);
+        // Tasks merged into existing ones belong to the user and are never upgraded
+        List<TaskResponse> created = tasks.stream().filter(task -> createdIds.contains(task.getId())).toList();
+        boolean upgradePending = !gemini.isDone();
+        if (upgradePending) {
+            gemini.thenAcceptAsync(upgraded -> upgrade(created, upgraded, mergeDuplicates), upgradeExecutor)
+                .exceptionally(error -> {
+                    log.warn("Late Gemini extraction failed, keeping heuristic tasks: {}", error.getMessage());
+                    return null;
+                });
+        }
+        return new Result(Source.HEURISTIC, tasks, upgradePending);
+    }
+
+    // Each action-item sentence is parsed on its own heuristic pool thread; nothing here blocks a pool thread
+    private HeuristicExtraction extractHeuristically(String transcript) {
+        List<CompletableFuture<TaskRequest>> parsed = Arrays.stream(SENTENCE_BOUNDARY.split(transcript))
+            .map(sentence -> SPEAKER_PREFIX.matcher(sentence).replaceFirst("").trim())
+            .filter(sentence -> !sentence.isEmpty() && ACTION_ITEM.matcher(sentence).find())
+            .map(sentence -> CompletableFuture.supplyAsync(() -> parseSentence(sentence), heuristicExecutor))
+            .toList();
+        CompletableFuture<List<TaskRequest>> tasks = CompletableFuture.allOf(parsed.toArray(new CompletableFuture[0]))
+            .thenApply(done -> parsed.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList());
+        return new HeuristicExtraction(parsed, tasks);
+    }
+
+    private TaskRequest parseSentence(String sentence) {
+        try {
+            TaskRequest request = nlParserService.parseTaskDescription(sentence);
+            return request.getDescription() == null || request.getDescription().isBlank() ? null : request;
+        } catch (RuntimeException e) {
+            log.debug("Skipping unparseable sentence '{}': {}", sentence, e.getMessage());
+            return null;
+        }
+    }
+
+    // Blocks until one of the two completes normally, or both have failed
+    private static void awaitFirstSuccess(CompletableFuture<?> first, CompletableFuture<?> second)
+            throws InterruptedException {
+        CompletableFuture<Void> settled = new CompletableFuture<>();
+        BiConsumer<Object, Throwable> onCompletion = (value, error) -> {
+            if (error == null || (first.isCompletedExceptionally() && second.isCompletedExceptionally())) {
+                settled.complete(null);
+            }
+        };
+        first.whenComplete(onCompletion);
+        second.whenComplete(onCompletion);
+        try {
+            settled.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e); // Never completed exceptionally
+        }
+    }
+
+    private static RuntimeException failure(CompletableFuture<?> gemini) {
+        try {
+            gemini.join();
+            return new IllegalStateException("Meeting minutes extraction failed");
+        } catch (CompletionException e) {
+            return e.getCause() instanceof RuntimeException cause
+                ? cause : new RuntimeException("Failed to extract tasks from meeting minutes", e.getCause());
+        }
+    }
+
+    private static RuntimeException interrupted(CompletableFuture<?> gemini, HeuristicExtraction heuristic,
+                                                 InterruptedException e) {
+        Thread.currentThread().interrupt();
+        gemini.cancel(true);
+        heuristic.cancel();
+        return new IllegalStateException("Interrupted while extracting meeting minutes", e);
+    }
+
+    /**
+     * Replaces heuristic tasks with the matching Gemini task, pairing each Gemini task
+     * with the most similar unclaimed heuristic task. Only the extracted content is
+     * replaced, and only if the task is still at the version it was created with.
+     * Gemini tasks without a counterpart are created; heuristic tasks without one are
+     * left untouched.
+     */
+    private void upgrade(List<TaskResponse> heuristicTasks, List<TaskRequest> geminiTasks, boolean mergeDuplicates) {
+        Set<Long> claimed = new HashSet<>();
+        List<TaskRequest> unmatched = new ArrayList<>();
+        int upgraded = 0;
+        for (TaskRequest geminiTask : geminiTasks) {
+            TaskResponse best = null;
+            double bestSimilarity = similarityIndex.getThreshold();
+            for (TaskResponse heuristicTask : heuristicTasks) {
+                if (claimed.contains(heuristicTask.getId())) {
+                    continue;
+                }
+                double similarity = similarityIndex.similarity(
+                    textOf(geminiTask.getTitle(), geminiTask.getDescription()),
+                    textOf(heuristicTask.getTitle(), heuristicTask.getDescription()));
+                if (similarity >= bestSimilarity) {
+                    best = heuristicTask;
+                    bestSimilarity = similarity;
+                }
+            }
+            if (best == null) {
+                unmatched.add(geminiTask);
+                continue;
+            }
+            claimed.add(best.getId());
+            try {
+                if (taskService.refineExtractedTask(best.getId(), best.getVersion(), geminiTask)) {
+                    upgraded++;
+                } else {
+                    log.debug("Heuristic task {} was edited or deleted since extraction, keeping it", best.getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not upgrade heuristic task {}: {}", best.getId(), e.getMessage());
+            }
+        }
+        if (!unmatched.isEmpty()) {
+            taskService.createTasks(unmatched, mergeDuplicates);
+        }
+        log.info("Upgraded {} heuristic tasks with the late Gemini result and added {} more",
+            upgraded, unmatched.size());
+    }
+
+    private static ExecutorService newPool(String namePrefix, int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static String textOf(String title, String description) {
+        return (title == null ? "" : title) + " " + (description == null ? "" : description);
+    }
+}
@@ -3,18 +3,26 @@ package com.taskmanager.service;
 import com.joestelmach.natty.DateGroup;
 import com.joestelmach.natty.Parser;
 import com.taskmanager.dto.TaskRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Service
+@RequiredArgsConstructor
 public class NLParserService {
     
+    private static final LocalTime DEFAULT_OCCURRENCE_TIME = LocalTime.of(9, 0);
+    
     private static final Pattern ASSIGNEE_PATTERN = Pattern.compile(
         "(?:to|for|assign to|assigned to|@)\\s*([A-Za-z]+(?:\\s+[A-Za-z]+)*)", 
         Pattern.CASE_INSENSITIVE
@@ -25,13 +33,53 @@ public class NLParserService {
         Pattern.CASE_INSENSITIVE
     );
     
+    private static final String DAY_NAME = "(?:mon|tues?|wed(?:nes)?|thu(?:rs?)?|fri|sat(?:ur)?|sun)(?:day)?s?";
+    
+    // Recurrence needs "every"/"each" phrasing, an explicit "repeat" marker or (for "monthly
+    // on the 1st") a day to repeat on, so that adjectives such as "weekly report" or
+    // "daily standup notes" stay part of the title
+    private static final String REPEAT = "repeat(?:s|ing)?:?\\s+";
+    
+    private static final Pattern WEEKDAYS_PATTERN = Pattern.compile(
+        "\\b(?:(?:every|each)\\s+(?:week\\s?day|business\\s+day|working\\s+day)|" + REPEAT + "(?:on\\s+)?weekdays)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+    
+    private static final Pattern DAYS_OF_WEEK_PATTERN = Pattern.compile(
+        "\\b(?:every|each)\\s+(other\\s+)?(" + DAY_NAME + "(?:\\s*(?:,|and|&)\\s*" + DAY_NAME + ")*)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+    
+    private static final Pattern MONTH_DAY_PATTERN = Pattern.compile(
+        "\\b(?:(?:(?:every|each)\\s+month|(?:" + REPEAT + ")?monthly)\\s+on\\s+the\\s+(\\d{1,2}|last)(?:st|nd|rd|th)?(?:\\s+day)?"
+            + "|on\\s+the\\s+(\\d{1,2}|last)(?:st|nd|rd|th)?(?:\\s+day)?\\s+of\\s+(?:every|each)\\s+month)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+    
+    private static final Pattern INTERVAL_PATTERN = Pattern.compile(
+        "\\b(?:every|each)\\s+(other|\\d{1,3})?\\s*(day|week|month|year)s?\\b"
+            + "|\\b" + REPEAT + "(daily|weekly|fortnightly|monthly|yearly|annually)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+    
+    private final AssigneeIndex assigneeIndex;
+    
     public TaskRequest parseTaskDescription(String description) {
         TaskRequest taskRequest = new TaskRequest();
         
+        // Extract recurrence first, so "every Monday" is not read as a single date or part of a name
+        Matcher recurrence = findRecurrence(description);
+        String recurrenceRule = recurrence == null ? null : toValidRecurrenceRule(recurrence);
+        if (recurrenceRule != null) {
+            taskRequest.setRecurrenceRule(recurrenceRule);
+            description = (description.substring(0, recurrence.start()) + " " + description.substring(recurrence.end())).trim();
+        }
+        
         // Extract assignee
         String assignee = extractAssignee(description);
         if (assignee != null) {
-            taskRequest.setAssignee(assignee);
+            // A known person keeps their usual spelling; anyone else is taken as written
+            taskRequest.setAssignee(assigneeIndex.resolve(assignee).orElse(assignee));
             // Remove assignee from description
             description = description.replaceAll(
                 "(?:to|for|assign to|assigned to|@)\\s*" + Pattern.quote(assignee), 
@@ -63,6 +111,14 @@ public class NLParserService {
             }
         }
         
+        // The first occurrence is the earliest one on or after the parsed date (or today), keeping its time
+        if (taskRequest.getRecurrenceRule() != null) {
+            LocalDateTime anchor = dueDate != null ? dueDate : LocalDate.now().atTime(DEFAULT_OCCURRENCE_TIME);
+            LocalDateTime now = LocalDateTime.now();
+            taskRequest.setDueDate(RecurrenceRule.parse(taskRequest.getRecurrenceRule())
+                .nextOnOrAfter(anchor, anchor.isBefore(now) ? now : anchor));
+        }
+        
         // Clean up description
         description = description
             .replaceAll("\\s+", " ")  // Replace multiple spaces with single space
@@ -75,6 +131,64 @@ public class NLParserService {
         return taskRequest;
     }
     
+    // Tries the most specific phrasings first, so "every weekday" does not become "every day"
+    private Matcher findRecurrence(String text) {
+        for (Pattern pattern : List.of(WEEKDAYS_PATTERN, MONTH_DAY_PATTERN, DAYS_OF_WEEK_PATTERN, INTERVAL_PATTERN)) {
+            Matcher matcher = pattern.matcher(text);
+            if (matcher.find()) {
+                return matcher;
+            }
+        }
+        return null;
+    }
+    
+    // A phrase naming an impossible rule ("on the 45th of every month") is left in the text, not guessed at
+    private String toValidRecurrenceRule(Matcher matcher) {
+        try {
+            return RecurrenceRule.parse(toRecurrenceRule(matcher)).toString();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private String toRecurrenceRule(Matcher matcher) {
+        Pattern pattern = matcher.pattern();
+        if (pattern == WEEKDAYS_PATTERN) {
+            return "FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR";
+        }
+        if (pattern == MONTH_DAY_PATTERN) {
+            String day = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            return "FREQ=MONTHLY;BYMONTHDAY=" + (day.equalsIgnoreCase("last") ? "-1" : day);
+        }
+        if (pattern == DAYS_OF_WEEK_PATTERN) {
+            Set<String> days = new LinkedHashSet<>();
+            for (String day : matcher.group(2).toLowerCase().split("\\s*(?:,|and|&)\\s*")) {
+                days.add(day.trim().substring(0, 2).toUpperCase());
+            }
+            return "FREQ=WEEKLY" + (matcher.group(1) != null ? ";INTERVAL=2" : "") + ";BYDAY=" + String.join(",", days);
+        }
+        if (matcher.group(3) != null) {
+            return switch (matcher.group(3).toLowerCase()) {
+                case "daily" -> "FREQ=DAILY";
+                case "weekly" -> "FREQ=WEEKLY";
+                case "fortnightly" -> "FREQ=WEEKLY;INTERVAL=2";
+                case "monthly" -> "FREQ=MONTHLY";
+                default -> "FREQ=YEARLY";
+            };
+        }
+        String interval = matcher.group(1);
+        String frequency = switch (matcher.group(2).toLowerCase()) {
+            case "day" -> "DAILY";
+            case "week" -> "WEEKLY";
+            case "month" -> "MONTHLY";
+            default -> "YEARLY";
+        };
+        if (interval == null) {
+            return "FREQ=" + frequency;
+        }
+        return "FREQ=" + frequency + ";INTERVAL=" + (interval.equalsIgnoreCase("other") ? "2" : Integer.parseInt(interval));
+    }
+    
     private String extractAssignee(String text) {
         Matcher matcher = ASSIGNEE_PATTERN.matcher(text);
         if (matcher.find()) {
@@ -0,0 +1,279 @@
+package com.taskmanager.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A recurrence rule in a subset of iCalendar RRULE syntax, e.g.
+ * {@code FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR} or {@code FREQ=MONTHLY;BYMONTHDAY=1}.
+ * Supported parts are FREQ (DAILY, WEEKLY, MONTHLY, YEARLY), INTERVAL, BYDAY (daily
+ * and weekly rules), BYMONTHDAY (monthly rules; negative counts from the month end)
+ * and UNTIL (inclusive date).
+ *
+ * <p>Occurrences are computed relative to an anchor, the template task's due date: it
+ * fixes the time of day and the first date, and is the default weekday, day of month
+ * or date of year when the rule does not name one. Expansion jumps straight to the
+ * first period of the requested window, so its cost depends on the window, not on
+ * how long ago the anchor was. Days that do not exist in a period (the 31st in a
+ * 30-day month, 29 February) are skipped, as in iCalendar.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY,
+        YEARLY
+    }
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_INTERVAL = 999;
+    // Guards rules whose filters can never match, e.g. FREQ=DAILY;INTERVAL=7;BYDAY=<another weekday>
+    private static final int MAX_PERIODS = 10_000;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer byMonthDay;
+    private final LocalDate until;
+
+    public RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer byMonthDay, LocalDate until) {
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence rule needs a FREQ");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("INTERVAL must be between 1 and " + MAX_INTERVAL);
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.DAILY && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported for DAILY and WEEKLY rules");
+        }
+        if (byMonthDay != null) {
+            if (frequency != Frequency.MONTHLY) {
+                throw new IllegalArgumentException("BYMONTHDAY is only supported for MONTHLY rules");
+            }
+            if (byMonthDay == 0 || Math.abs(byMonthDay) > 31) {
+                throw new IllegalArgumentException("BYMONTHDAY must be between 1 and 31, or -31 and -1");
+            }
+        }
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(byDay);
+        this.byMonthDay = byMonthDay;
+        this.until = until;
+    }
+
+    /**
+     * Parses a rule, with or without the {@code RRULE:} prefix.
+     *
+     * @throws IllegalArgumentException if the rule is malformed or uses unsupported parts
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule is empty");
+        }
+        String text = rule.trim().toUpperCase(Locale.ROOT);
+        if (text.startsWith("RRULE:")) {
+            text = text.substring("RRULE:".length());
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer byMonthDay = null;
+        LocalDate until = null;
+        for (String part : text.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int equals = part.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+            }
+            String name = part.substring(0, equals).trim();
+            String value = part.substring(equals + 1).trim();
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(toDayOfWeek(day.trim()));
+                        }
+                    }
+                    case "BYMONTHDAY" -> byMonthDay = Integer.parseInt(value);
+                    case "UNTIL" -> until = LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, UNTIL_FORMAT);
+                    default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+            }
+        }
+        return new RecurrenceRule(frequency, interval, byDay, byMonthDay, until);
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /** First occurrence at or after {@code from}, or {@code null} if the rule has ended. */
+    public LocalDateTime nextOnOrAfter(LocalDateTime anchor, LocalDateTime from) {
+        List<LocalDateTime> next = between(anchor, from, null, 1);
+        return next.isEmpty() ? null : next.get(0);
+    }
+
+    /**
+     * Occurrences in {@code [from, to)}, in order and at most {@code limit} of them.
+     * A {@code null} {@code to} leaves the window open, so {@code limit} alone bounds it.
+     */
+    public List<LocalDateTime> between(LocalDateTime anchor, LocalDateTime from, LocalDateTime to, int limit) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        if (limit <= 0) {
+            return occurrences;
+        }
+        LocalDateTime start = from.isAfter(anchor) ? from : anchor;
+        forEachDate(anchor.toLocalDate(), start.toLocalDate(), date -> {
+            LocalDateTime occurrence = date.atTime(anchor.toLocalTime());
+            if (to != null && !occurrence.isBefore(to)) {
+                return false;
+            }
+            if (!occurrence.isBefore(start)) {
+                occurrences.add(occurrence);
+            }
+            return occurrences.size() < limit;
+        });
+        return occurrences;
+    }
+
+    /** Whether {@code candidate} is one of the occurrences anchored at {@code anchor}. */
+    public boolean isOccurrence(LocalDateTime anchor, LocalDateTime candidate) {
+        return candidate.equals(nextOnOrAfter(anchor, candidate));
+    }
+
+    // Hands occurrence dates on or after 'start' to the visitor in order, until it returns false
+    private void forEachDate(LocalDate anchor, LocalDate start, Predicate<LocalDate> visitor) {
+        switch (frequency) {
+            case DAILY -> {
+                long skipped = ChronoUnit.DAYS.between(anchor, start);
+                LocalDate date = anchor.plusDays(ceilDiv(skipped, interval) * interval);
+                for (int i = 0; i < MAX_PERIODS && !ended(date); i++, date = date.plusDays(interval)) {
+                    if ((byDay.isEmpty() || byDay.contains(date.getDayOfWeek())) && !visitor.test(date)) {
+                        return;
+                    }
+                }
+            }
+            case WEEKLY -> {
+                Set<DayOfWeek> days = byDay.isEmpty() ? EnumSet.of(anchor.getDayOfWeek()) : byDay;
+                LocalDate anchorWeek = anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                long skipped = ChronoUnit.WEEKS.between(anchorWeek, start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+                LocalDate week = anchorWeek.plusWeeks(ceilDiv(skipped, interval) * interval);
+                for (int i = 0; i < MAX_PERIODS; i++, week = week.plusWeeks(interval)) {
+                    for (DayOfWeek day : days) {
+                        LocalDate date = week.plusDays(day.getValue() - 1L);
+                        if (ended(date)) {
+                            return;
+                        }
+                        if (!date.isBefore(anchor) && !date.isBefore(start) && !visitor.test(date)) {
+                            return;
+                        }
+                    }
+                }
+            }
+            case MONTHLY -> {
+                int dayOfMonth = byMonthDay != null ? byMonthDay : anchor.getDayOfMonth();
+                YearMonth anchorMonth = YearMonth.from(anchor);
+                long skipped = ChronoUnit.MONTHS.between(anchorMonth, YearMonth.from(start));
+                YearMonth month = anchorMonth.plusMonths(ceilDiv(skipped, interval) * interval);
+                for (int i = 0; i < MAX_PERIODS; i++, month = month.plusMonths(interval)) {
+                    int day = dayOfMonth > 0 ? dayOfMonth : month.lengthOfMonth() + dayOfMonth + 1;
+                    if (day < 1 || day > month.lengthOfMonth()) {
+                        if (ended(month.atDay(1))) {
+                            return;
+                        }
+                        continue;
+                    }
+                    LocalDate date = month.atDay(day);
+                    if (ended(date)) {
+                        return;
+                    }
+                    if (!date.isBefore(anchor) && !date.isBefore(start) && !visitor.test(date)) {
+                        return;
+                    }
+                }
+            }
+            case YEARLY -> {
+                long skipped = ChronoUnit.YEARS.between(anchor.withDayOfYear(1), start.withDayOfYear(1));
+                int year = anchor.getYear() + (int) (ceilDiv(skipped, interval) * interval);
+                for (int i = 0; i < MAX_PERIODS; i++, year += interval) {
+                    YearMonth month = YearMonth.of(year, anchor.getMonth());
+                    if (!month.isValidDay(anchor.getDayOfMonth())) {
+                        if (ended(month.atDay(1))) {
+                            return;
+                        }
+                        continue; // 29 February outside leap years
+                    }
+                    LocalDate date = month.atDay(anchor.getDayOfMonth());
+                    if (ended(date)) {
+                        return;
+                    }
+                    if (!date.isBefore(start) && !visitor.test(date)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean ended(LocalDate date) {
+        return until != null && date.isAfter(until);
+    }
+
+    private static long ceilDiv(long value, int divisor) {
+        return value <= 0 ? 0 : (value + divisor - 1) / divisor;
+    }
+
+    private static DayOfWeek toDayOfWeek(String day) {
+        return switch (day) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException("Invalid BYDAY value: " + day);
+        };
+    }
+
+    /** The canonical form that is stored on the task. */
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            rule.append(";BYDAY=").append(byDay.stream()
+                .map(day -> day.name().substring(0, 2))
+                .collect(Collectors.joining(",")));
+        }
+        if (byMonthDay != null) {
+            rule.append(";BYMONTHDAY=").append(byMonthDay);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(until.format(UNTIL_FORMAT));
+        }
+        return rule.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Fans committed task changes out to every {@link TaskChangeListener}.
+ *
+ * <p>The web server accepts requests while {@link TaskIndexBootstrap} is still replaying
+ * the table, so a replayed row can be older than a change that committed after the
+ * replay read it. Until the replay finishes, changes are therefore buffered and only
+ * applied afterwards, in commit order, so the newest state always wins.
+ */
+@Slf4j
+@Component
+public class TaskChangeDispatcher {
+
+    private final List<TaskChangeListener> listeners;
+    private final Object lock = new Object();
+    private final List<Consumer<TaskChangeListener>> buffered = new ArrayList<>();
+    private volatile boolean live;
+
+    public TaskChangeDispatcher(List<TaskChangeListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    public void taskSaved(Task task) {
+        dispatch(listener -> listener.onTaskSaved(task));
+    }
+
+    public void taskDeleted(Long taskId) {
+        dispatch(listener -> listener.onTaskDeleted(taskId));
+    }
+
+    /** Hands a row read by the startup replay straight to the listeners. */
+    void replay(Task task) {
+        deliver(listener -> listener.onTaskSaved(task));
+    }
+
+    /** Applies the changes buffered during the replay and switches to direct delivery. */
+    void replayFinished() {
+        synchronized (lock) {
+            buffered.forEach(this::deliver);
+            log.info("Applied {} task changes that arrived during the index replay", buffered.size());
+            buffered.clear();
+            live = true;
+        }
+    }
+
+    int listenerCount() {
+        return listeners.size();
+    }
+
+    private void dispatch(Consumer<TaskChangeListener> change) {
+        if (!live) {
+            synchronized (lock) {
+                if (!live) {
+                    buffered.add(change);
+                    return;
+                }
+            }
+        }
+        deliver(change);
+    }
+
+    // One failing index must not keep the others from seeing the change
+    private void deliver(Consumer<TaskChangeListener> change) {
+        for (TaskChangeListener listener : listeners) {
+            try {
+                change.accept(listener);
+            } catch (RuntimeException e) {
+                log.error("Failed to propagate task change to {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+
+/**
+ * In-memory views over the task table implement this to stay in sync with writes
+ * made through {@link TaskService}. Callbacks run after the write has committed,
+ * and {@link TaskIndexBootstrap} replays every existing task at startup; the
+ * {@link TaskChangeDispatcher} delivers both.
+ */
+public interface TaskChangeListener {
+
+    void onTaskSaved(Task task);
+
+    void onTaskDeleted(Long taskId);
+}
@@ -0,0 +1,14 @@
+package com.taskmanager.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@link DeadlineScheduler} when a task becomes due soon or overdue.
+ */
+public record TaskDeadlineEvent(Long taskId, Type type, LocalDateTime dueDate) {
+
+    public enum Type {
+        DUE_SOON,
+        OVERDUE
+    }
+}
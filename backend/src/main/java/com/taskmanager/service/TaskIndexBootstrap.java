@@ -0,0 +1,48 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Seeds every {@link TaskChangeListener} from the database with a single keyset-paged
+ * scan. Runs as an {@link ApplicationRunner} so the indexes are populated before the
+ * application reports itself ready. Requests served meanwhile are not lost: the
+ * {@link TaskChangeDispatcher} holds their changes back until the scan is done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskIndexBootstrap implements ApplicationRunner {
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeDispatcher dispatcher;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        long count = 0;
+        long lastId = 0;
+        List<Task> batch;
+        try {
+            do {
+                batch = taskRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+                for (Task task : batch) {
+                    dispatcher.replay(task);
+                    lastId = task.getId();
+                }
+                count += batch.size();
+            } while (!batch.isEmpty());
+        } finally {
+            dispatcher.replayFinished();
+        }
+        log.info("Loaded {} tasks into {} in-memory indexes in {} ms",
+            count, dispatcher.listenerCount(), System.currentTimeMillis() - started);
+    }
+}
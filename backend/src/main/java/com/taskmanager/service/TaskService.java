@@ -1,41 +1,157 @@
 package com.taskmanager.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.taskmanager.dto.TaskRequest;
 import com.taskmanager.dto.TaskResponse;
 import com.taskmanager.model.Task;
 import com.taskmanager.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
     
+    private static final int MAX_FLAGGED_DUPLICATES = 5;
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String COMPLETED = "COMPLETED";
+    // Windows over which recurring templates are expanded; they keep expansion bounded for open-ended rules
+    private static final Duration MAX_CALENDAR_WINDOW = Duration.ofDays(366);
+    private static final Duration OVERDUE_LOOKBACK = Duration.ofDays(30);
+    private static final int MAX_EXPANDED_OCCURRENCES = 10_000;
+    private static final LocalTime DEFAULT_OCCURRENCE_TIME = LocalTime.of(9, 0);
+    
     private final TaskRepository taskRepository;
     private final NLParserService nlParserService;
+    private final TaskWriteCoalescer writeCoalescer;
+    private final TaskSimilarityIndex similarityIndex;
+    private final DeadlineScheduler deadlineScheduler;
+    private final AssigneeTaskRanking assigneeTaskRanking;
+    private final TaskChangeDispatcher changeDispatcher;
     
-    @Transactional
+    // Not @Transactional: the save opens its own transaction, and with group commit
+    // enabled the caller must not hold a connection while waiting for the batch
     public TaskResponse createTask(TaskRequest taskRequest) {
         Task task = new Task();
         updateTaskFromRequest(task, taskRequest);
-        task = taskRepository.save(task);
-        return TaskResponse.fromEntity(task);
+        List<Long> duplicates = similarityIndex.findSimilar(task.getTitle(), task.getDescription(), MAX_FLAGGED_DUPLICATES)
+            .stream()
+            .map(TaskSimilarityIndex.Match::taskId)
+            .toList();
+        
+        task = writeCoalescer.isEnabled() ? writeCoalescer.save(task) : taskRepository.save(task);
+        publishSaved(task);
+        
+        TaskResponse response = TaskResponse.fromEntity(task);
+        response.setPossibleDuplicates(duplicates);
+        return response;
     }
     
+    /**
+     * Creates tasks extracted from meeting minutes. With {@code mergeDuplicates}, a task
+     * that closely matches an existing one is not created; the existing task is returned instead.
+     */
+    public List<TaskResponse> createTasks(List<TaskRequest> taskRequests, boolean mergeDuplicates) {
+        return createTasks(taskRequests, mergeDuplicates, new HashSet<>());
+    }
+    
+    /**
+     * Like {@link #createTasks(List, boolean)}, and adds the IDs of the tasks that were
+     * actually created, rather than merged into an existing task, to {@code createdIds}.
+     */
+    public List<TaskResponse> createTasks(List<TaskRequest> taskRequests, boolean mergeDuplicates, Set<Long> createdIds) {
+        List<TaskResponse> responses = new ArrayList<>();
+        for (TaskRequest taskRequest : taskRequests) {
+            Optional<TaskResponse> existing = mergeDuplicates ? findDuplicate(taskRequest) : Optional.empty();
+            if (existing.isPresent()) {
+                log.debug("Merged extracted task '{}' into existing task {}", taskRequest.getTitle(), existing.get().getId());
+                responses.add(existing.get());
+            } else {
+                TaskResponse created = createTask(taskRequest);
+                createdIds.add(created.getId());
+                responses.add(created);
+            }
+        }
+        return responses;
+    }
+    
+    /**
+     * Replaces the content of an extracted task with a better extraction of the same item:
+     * title, description, assignee, due date and priority, where the extraction has them.
+     * Status is never touched, and nothing is written if the task has changed since
+     * {@code expectedVersion}, so edits made in the meantime win.
+     *
+     * @return whether the task was updated
+     */
     @Transactional
+    public boolean refineExtractedTask(Long id, Long expectedVersion, TaskRequest extraction) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        String title = extraction.getTitle() != null ? extraction.getTitle() : extraction.getDescription();
+        if (title != null && !title.isBlank()) {
+            changes.put("title", truncate(title, 500));
+        }
+        if (extraction.getDescription() != null) {
+            changes.put("description", extraction.getDescription());
+        }
+        if (extraction.getAssignee() != null) {
+            changes.put("assignee", extraction.getAssignee());
+        }
+        if (extraction.getDueDate() != null) {
+            changes.put("dueDate", extraction.getDueDate());
+        }
+        if (extraction.getPriority() != null) {
+            changes.put("priority", extraction.getPriority().toUpperCase());
+        }
+        if (changes.isEmpty() || expectedVersion == null
+                || taskRepository.updateIfVersionMatches(id, expectedVersion, changes) == 0) {
+            return false;
+        }
+        taskRepository.findById(id).ifPresent(this::publishSaved);
+        return true;
+    }
+    
     public TaskResponse createTaskFromNaturalLanguage(String naturalLanguageInput) {
         TaskRequest taskRequest = nlParserService.parseTaskDescription(naturalLanguageInput);
         return createTask(taskRequest);
     }
     
     @Transactional(readOnly = true)
-    public Map<String, Object> getAllTasks(int page, int size, String search) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("dueDate").ascending());
+    public Map<String, Object> getAllTasks(int page, int size, String search, String fields) {
+        // Ordered in the specification below; the pageable only pages
+        Pageable pageable = PageRequest.of(page, size);
         
         Specification<Task> spec = (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -51,15 +167,23 @@ public class TaskService {
                 predicates.add(criteriaBuilder.or(titlePredicate, descPredicate, assigneePredicate));
             }
             
+            // By due date, except that a recurring template's dueDate only anchors the series
+            // and would keep it at the top for good; templates sort last with undated tasks
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                    criteriaBuilder.asc(criteriaBuilder.<LocalDateTime>selectCase()
+                        .when(criteriaBuilder.isNull(root.get("recurrenceRule")), root.<LocalDateTime>get("dueDate"))
+                        .otherwise(criteriaBuilder.nullLiteral(LocalDateTime.class))),
+                    criteriaBuilder.asc(root.get("id")));
+            }
+            
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
         
-        Page<Task> taskPage = taskRepository.findAll(spec, pageable);
+        Page<TaskResponse> taskPage = taskRepository.findAllProjected(spec, resolveFields(fields), pageable);
         
         Map<String, Object> response = new HashMap<>();
-        response.put("tasks", taskPage.getContent().stream()
-            .map(TaskResponse::fromEntity)
-            .collect(Collectors.toList()));
+        response.put("tasks", taskPage.getContent());
         response.put("currentPage", taskPage.getNumber());
         response.put("totalItems", taskPage.getTotalElements());
         response.put("totalPages", taskPage.getTotalPages());
@@ -69,9 +193,8 @@ public class TaskService {
     
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        return findResponse(id)
             .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
-        return TaskResponse.fromEntity(task);
     }
     
     @Transactional
@@ -81,6 +204,45 @@ public class TaskService {
         
         updateTaskFromRequest(task, taskRequest);
         task = taskRepository.save(task);
+        publishSaved(task);
+        return TaskResponse.fromEntity(task);
+    }
+    
+    /**
+     * Applies a JSON Merge Patch. With an {@code expectedVersion} (from If-Match) the
+     * changed columns are written by a single conditional UPDATE, with no read beforehand;
+     * otherwise the task is loaded and saved, and Hibernate writes only the changed
+     * columns and still checks the version. Patches touching the recurrence rule or due
+     * date always take the second path, since they are validated and re-anchored
+     * against the stored task exactly as in {@link #updateTask}.
+     */
+    @Transactional
+    public TaskResponse patchTask(Long id, JsonNode patch, Long expectedVersion) {
+        Map<String, Object> changes = toChanges(patch);
+        boolean recurrenceAffected = changes.containsKey("recurrenceRule") || changes.containsKey("dueDate");
+        Task task;
+        if (expectedVersion != null && !recurrenceAffected) {
+            if (taskRepository.updateIfVersionMatches(id, expectedVersion, changes) == 0) {
+                if (!taskRepository.existsById(id)) {
+                    throw new EntityNotFoundException("Task not found with id: " + id);
+                }
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "Task " + id + " has been modified since version " + expectedVersion);
+            }
+            task = taskRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        } else {
+            Task loaded = taskRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+            if (expectedVersion != null && !expectedVersion.equals(loaded.getVersion())) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "Task " + id + " has been modified since version " + expectedVersion);
+            }
+            changes.forEach((attribute, value) -> applyChange(loaded, attribute, value));
+            anchorRecurrence(loaded);
+            task = taskRepository.saveAndFlush(loaded);
+        }
+        publishSaved(task);
         return TaskResponse.fromEntity(task);
     }
     
@@ -90,27 +252,129 @@ public class TaskService {
             throw new EntityNotFoundException("Task not found with id: " + id);
         }
         taskRepository.deleteById(id);
+        afterCommit(() -> changeDispatcher.taskDeleted(id));
     }
     
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByAssignee(String assignee) {
-        return taskRepository.findByAssigneeIgnoreCase(assignee).stream()
-            .map(TaskResponse::fromEntity)
-            .collect(Collectors.toList());
+    public List<TaskResponse> getSimilarTasks(Long id, int limit) {
+        List<TaskSimilarityIndex.Match> matches = similarityIndex.findSimilarTo(id, limit);
+        if (matches == null) {
+            if (!taskRepository.existsById(id)) {
+                throw new EntityNotFoundException("Task not found with id: " + id);
+            }
+            return List.of(); // Task has no indexable text
+        }
+        
+        return findAllInOrder(matches.stream().map(TaskSimilarityIndex.Match::taskId).toList());
     }
     
+    /**
+     * Overdue tasks, longest overdue first. Missed occurrences of recurring templates
+     * from the last {@code OVERDUE_LOOKBACK} are included until they are completed.
+     */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByPriority(String priority) {
-        return taskRepository.findByPriority(priority.toUpperCase()).stream()
-            .map(TaskResponse::fromEntity)
-            .collect(Collectors.toList());
+    public List<TaskResponse> getOverdueTasks(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskResponse> overdue = new ArrayList<>(findAllInOrder(deadlineScheduler.getOverdueTaskIds(limit)));
+        overdue.addAll(expandOccurrences(now.minus(OVERDUE_LOOKBACK), now, limit));
+        overdue.sort(Comparator.comparing(TaskResponse::getDueDate));
+        return overdue.size() > limit ? overdue.subList(0, limit) : overdue;
     }
     
+    /**
+     * Everything due in {@code [from, to)}: one-off tasks, materialized occurrences, and
+     * occurrences of recurring templates expanded for the window, ordered by due date.
+     */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByStatus(String status) {
-        return taskRepository.findByStatus(status.toUpperCase()).stream()
+    public List<TaskResponse> getCalendar(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+        if (Duration.between(from, to).compareTo(MAX_CALENDAR_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Calendar window cannot exceed " + MAX_CALENDAR_WINDOW.toDays() + " days");
+        }
+        List<TaskResponse> entries = taskRepository.findByRecurrenceRuleIsNullAndDueDateBetween(from, to).stream()
+            .filter(task -> task.getDueDate().isBefore(to))
             .map(TaskResponse::fromEntity)
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(ArrayList::new));
+        entries.addAll(expandOccurrences(from, to, MAX_EXPANDED_OCCURRENCES));
+        entries.sort(Comparator.comparing(TaskResponse::getDueDate));
+        return entries;
+    }
+    
+    /**
+     * Edits or completes one occurrence of a recurring template. The first change turns the
+     * occurrence into a task of its own, copied from the template; later ones update that task.
+     */
+    @Transactional
+    public TaskResponse saveOccurrence(Long templateId, LocalDateTime occurrenceDate, TaskRequest taskRequest) {
+        Task template = taskRepository.findById(templateId)
+            .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + templateId));
+        if (template.getRecurrenceRule() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task " + templateId + " is not recurring");
+        }
+        if (taskRequest.getRecurrenceRule() != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "An occurrence cannot have a recurrence rule of its own");
+        }
+        
+        Task occurrence = taskRepository.findByRecurrenceParentIdAndOccurrenceDate(templateId, occurrenceDate)
+            .orElseGet(() -> {
+                RecurrenceRule rule = parseRule(template.getRecurrenceRule());
+                if (!rule.isOccurrence(template.getDueDate(), occurrenceDate)) {
+                    throw new EntityNotFoundException("Task " + templateId + " has no occurrence at " + occurrenceDate.format(DUE_DATE_FORMAT));
+                }
+                Task materialized = new Task();
+                materialized.setTitle(template.getTitle());
+                materialized.setDescription(template.getDescription());
+                materialized.setAssignee(template.getAssignee());
+                materialized.setPriority(template.getPriority());
+                materialized.setStatus(template.getStatus());
+                materialized.setDueDate(occurrenceDate);
+                materialized.setRecurrenceParentId(templateId);
+                materialized.setOccurrenceDate(occurrenceDate);
+                return materialized;
+            });
+        
+        updateTaskFromRequest(occurrence, taskRequest);
+        occurrence = taskRepository.save(occurrence);
+        publishSaved(occurrence);
+        return TaskResponse.fromEntity(occurrence);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getDueSoonTasks(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskResponse> dueSoon = new ArrayList<>(findAllInOrder(deadlineScheduler.getDueSoonTaskIds(limit)));
+        dueSoon.addAll(expandOccurrences(now, now.plus(deadlineScheduler.getDueSoonLead()), limit));
+        dueSoon.sort(Comparator.comparing(TaskResponse::getDueDate));
+        return dueSoon.size() > limit ? dueSoon.subList(0, limit) : dueSoon;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasksByAssignee(String assignee, String fields) {
+        Specification<Task> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(criteriaBuilder.lower(root.get("assignee")), assignee.toLowerCase());
+        return taskRepository.findAllProjected(spec, resolveFields(fields), Pageable.unpaged()).getContent();
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getNextTasksForAssignee(String assignee, int k) {
+        return findAllInOrder(assigneeTaskRanking.topK(assignee, k));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasksByPriority(String priority, String fields) {
+        Specification<Task> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("priority"), priority.toUpperCase());
+        return taskRepository.findAllProjected(spec, resolveFields(fields), Pageable.unpaged()).getContent();
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasksByStatus(String status, String fields) {
+        Specification<Task> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("status"), status.toUpperCase());
+        return taskRepository.findAllProjected(spec, resolveFields(fields), Pageable.unpaged()).getContent();
     }
     
     private void updateTaskFromRequest(Task task, TaskRequest request) {
@@ -136,10 +400,221 @@ public class TaskService {
             task.setStatus(request.getStatus().toUpperCase());
         }
         
+        // Omitted fields keep their current value; new tasks fall back to the entity defaults (P3, PENDING)
         if (request.getPriority() != null) {
             task.setPriority(request.getPriority().toUpperCase());
+        }
+        
+        // A blank rule stops the task recurring
+        if (request.getRecurrenceRule() != null) {
+            setRecurrenceRule(task, request.getRecurrenceRule());
+        }
+        
+        anchorRecurrence(task);
+    }
+    
+    private void setRecurrenceRule(Task task, String rule) {
+        if (rule == null || rule.isBlank()) {
+            task.setRecurrenceRule(null);
+            return;
+        }
+        if (task.getRecurrenceParentId() != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "An occurrence cannot have a recurrence rule of its own");
+        }
+        task.setRecurrenceRule(parseRule(rule).toString());
+    }
+    
+    // A template's due date is its first occurrence
+    private void anchorRecurrence(Task task) {
+        if (task.getRecurrenceRule() != null) {
+            LocalDateTime anchor = task.getDueDate() != null
+                ? task.getDueDate() : LocalDate.now().atTime(DEFAULT_OCCURRENCE_TIME);
+            LocalDateTime first = parseRule(task.getRecurrenceRule()).nextOnOrAfter(anchor, anchor);
+            if (first == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Recurrence rule has no occurrences");
+            }
+            task.setDueDate(first);
+        }
+    }
+    
+    // Validates a JSON Merge Patch (RFC 7396) and turns it into entity attribute changes
+    private Map<String, Object> toChanges(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Merge patch must be a JSON object");
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        patch.fields().forEachRemaining(entry -> {
+            JsonNode value = entry.getValue();
+            switch (entry.getKey()) {
+                case "title" -> {
+                    if (!value.isTextual() || value.asText().isBlank()) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title must be a non-empty string");
+                    }
+                    changes.put("title", truncate(value.asText(), 500));
+                }
+                case "description" -> changes.put("description", nullableText(value, "description"));
+                case "assignee" -> changes.put("assignee", nullableText(value, "assignee"));
+                case "dueDate" -> {
+                    String dueDate = nullableText(value, "dueDate");
+                    try {
+                        changes.put("dueDate", dueDate == null ? null : LocalDateTime.parse(dueDate, DUE_DATE_FORMAT));
+                    } catch (DateTimeParseException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "dueDate must use the format yyyy-MM-dd HH:mm");
+                    }
+                }
+                case "priority" -> {
+                    String priority = value.isNull() ? "P3" : nullableText(value, "priority").toUpperCase();
+                    if (!priority.matches("P[1-4]")) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "priority must be one of P1, P2, P3, P4");
+                    }
+                    changes.put("priority", priority);
+                }
+                case "status" -> changes.put("status", value.isNull() ? "PENDING" : nullableText(value, "status").toUpperCase());
+                case "recurrenceRule" -> {
+                    String rule = nullableText(value, "recurrenceRule");
+                    changes.put("recurrenceRule", rule == null || rule.isBlank() ? null : parseRule(rule).toString());
+                }
+                default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Field cannot be patched: " + entry.getKey());
+            }
+        });
+        return changes;
+    }
+    
+    private static String nullableText(JsonNode value, String field) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " must be a string or null");
+        }
+        return value.asText();
+    }
+    
+    private void applyChange(Task task, String attribute, Object value) {
+        switch (attribute) {
+            case "title" -> task.setTitle((String) value);
+            case "description" -> task.setDescription((String) value);
+            case "assignee" -> task.setAssignee((String) value);
+            case "dueDate" -> task.setDueDate((LocalDateTime) value);
+            case "priority" -> task.setPriority((String) value);
+            case "status" -> task.setStatus((String) value);
+            case "recurrenceRule" -> setRecurrenceRule(task, (String) value);
+            default -> throw new IllegalArgumentException("Unknown task attribute: " + attribute);
+        }
+    }
+    
+    // Turns a fields= parameter into the columns to select; the ID is always included
+    private Set<String> resolveFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return new LinkedHashSet<>(TaskResponse.SUMMARY_FIELDS);
+        }
+        if (fields.trim().equals("*")) {
+            return new LinkedHashSet<>(TaskResponse.ALL_FIELDS);
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!TaskResponse.ALL_FIELDS.contains(name)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown field '" + name + "'. Allowed fields: " + String.join(", ", TaskResponse.ALL_FIELDS));
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+    
+    // Loads tasks by ID while keeping the order chosen by an in-memory index
+    private List<TaskResponse> findAllInOrder(List<Long> ids) {
+        Map<Long, TaskResponse> tasksById = taskRepository.findAllProjectedById(ids, new LinkedHashSet<>(TaskResponse.ALL_FIELDS))
+            .stream()
+            .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        return ids.stream()
+            .map(tasksById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+    
+    // Reads a single task straight into its response, without loading the entity
+    private Optional<TaskResponse> findResponse(Long id) {
+        return taskRepository.findAllProjectedById(List.of(id), new LinkedHashSet<>(TaskResponse.ALL_FIELDS)).stream()
+            .findFirst();
+    }
+    
+    // Unmaterialized occurrences in [from, to) of templates that are still open, ordered by due date
+    private List<TaskResponse> expandOccurrences(LocalDateTime from, LocalDateTime to, int limit) {
+        List<Task> templates = taskRepository.findByRecurrenceRuleIsNotNullAndDueDateBefore(to).stream()
+            .filter(template -> !COMPLETED.equalsIgnoreCase(template.getStatus()))
+            .toList();
+        if (templates.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Set<LocalDateTime>> materialized = taskRepository.findByRecurrenceParentIdInAndOccurrenceDateBetween(
+                templates.stream().map(Task::getId).toList(), from, to).stream()
+            .collect(Collectors.groupingBy(Task::getRecurrenceParentId,
+                Collectors.mapping(Task::getOccurrenceDate, Collectors.toSet())));
+        
+        List<TaskResponse> occurrences = new ArrayList<>();
+        for (Task template : templates) {
+            RecurrenceRule rule;
+            try {
+                rule = RecurrenceRule.parse(template.getRecurrenceRule());
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping task {} with an invalid recurrence rule: {}", template.getId(), e.getMessage());
+                continue;
+            }
+            Set<LocalDateTime> skip = materialized.getOrDefault(template.getId(), Set.of());
+            for (LocalDateTime occurrence : rule.between(template.getDueDate(), from, to, limit)) {
+                if (!skip.contains(occurrence)) {
+                    occurrences.add(TaskResponse.occurrenceOf(template, occurrence));
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(TaskResponse::getDueDate));
+        return occurrences.size() > limit ? occurrences.subList(0, limit) : occurrences;
+    }
+    
+    private static RecurrenceRule parseRule(String rule) {
+        try {
+            return RecurrenceRule.parse(rule);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid recurrence rule: " + e.getMessage());
+        }
+    }
+    
+    private Optional<TaskResponse> findDuplicate(TaskRequest taskRequest) {
+        Task candidate = new Task();
+        updateTaskFromRequest(candidate, taskRequest);
+        return similarityIndex.findSimilar(candidate.getTitle(), candidate.getDescription(), 1).stream()
+            .findFirst()
+            .flatMap(match -> findResponse(match.taskId()));
+    }
+    
+    private void publishSaved(Task task) {
+        afterCommit(() -> changeDispatcher.taskSaved(task));
+    }
+    
+    // Listeners must only see committed state, so defer until the surrounding transaction commits
+    private void afterCommit(Runnable action) {
+        Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.error("Failed to propagate task change to in-memory indexes", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
         } else {
-            task.setPriority("P3"); // Default priority
+            guarded.run();
         }
     }
     
@@ -0,0 +1,359 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Near-duplicate detection over task titles and descriptions using MinHash
+ * signatures and locality-sensitive hashing.
+ *
+ * <p>Text is reduced to the character trigrams of its tokens. Stopwords and generic
+ * action verbs ("finish", "complete", ...) are dropped because they say nothing about
+ * what the task is. Each task keeps a {@value #NUM_HASHES}-value signature, split into
+ * {@value #BANDS} bands; the hash of each band picks the bucket the task is filed
+ * under. A lookup only reads the buckets its own bands fall into, so its cost does not
+ * grow with the number of tasks and it never reaches the database.
+ */
+@Component
+public class TaskSimilarityIndex implements TaskChangeListener {
+
+    static final int BANDS = 20;
+    static final int ROWS = 3;
+    static final int NUM_HASHES = BANDS * ROWS;
+    private static final int SHINGLE_SIZE = 3;
+    private static final int MAX_CANDIDATES = 2_000;
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "an", "the", "to", "for", "of", "on", "in", "by", "and", "or", "with", "at",
+        "is", "be", "will", "should", "please", "this", "that", "it", "we", "our",
+        "need", "needs", "must", "can", "up", "out",
+        "do", "done", "make", "get", "start", "finish", "finished", "complete", "completed", "prepare");
+
+    private static final long[] SEEDS = new long[NUM_HASHES];
+
+    static {
+        Random random = new Random(0x5eed_7a5cL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            SEEDS[i] = random.nextLong() | 1L;
+        }
+    }
+
+    private final double threshold;
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final BucketTable buckets = new BucketTable();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TaskSimilarityIndex(@Value("${taskmanager.similarity.threshold:0.5}") double threshold) {
+        this.threshold = threshold;
+    }
+
+    public record Match(Long taskId, double similarity) {
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public void onTaskSaved(Task task) {
+        int[] signature = signature(textOf(task.getTitle(), task.getDescription()));
+        lock.writeLock().lock();
+        try {
+            removeFromBuckets(task.getId());
+            if (signature == null) {
+                return;
+            }
+            signatures.put(task.getId(), signature);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.add(bucketKey(signature, band), task.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onTaskDeleted(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeFromBuckets(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks whose estimated Jaccard similarity to the given text is at least the
+     * configured threshold, most similar first.
+     */
+    public List<Match> findSimilar(String title, String description, int limit) {
+        int[] signature = signature(textOf(title, description));
+        return signature == null ? List.of() : query(signature, null, limit);
+    }
+
+    /**
+     * Tasks similar to an already indexed task, or {@code null} if the task is not indexed.
+     */
+    public List<Match> findSimilarTo(Long taskId, int limit) {
+        int[] signature = signatures.get(taskId);
+        return signature == null ? null : query(signature, taskId, limit);
+    }
+
+    /** Estimated Jaccard similarity of two texts, without touching the index. */
+    public double similarity(String first, String second) {
+        int[] a = signature(first == null ? "" : first);
+        int[] b = signature(second == null ? "" : second);
+        return a == null || b == null ? 0 : estimate(a, b);
+    }
+
+    private List<Match> query(int[] signature, Long excludeId, int limit) {
+        Set<Long> candidates = new HashSet<>();
+        LongConsumer collect = candidates::add;
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS && candidates.size() < MAX_CANDIDATES; band++) {
+                buckets.forEach(bucketKey(signature, band), collect);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        candidates.remove(excludeId);
+
+        List<Match> matches = new ArrayList<>();
+        for (Long candidate : candidates) {
+            int[] other = signatures.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = estimate(signature, other);
+            if (similarity >= threshold) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    private void removeFromBuckets(Long taskId) {
+        int[] previous = signatures.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            buckets.remove(bucketKey(previous, band), taskId);
+        }
+    }
+
+    private static double estimate(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / NUM_HASHES;
+    }
+
+    private static long bucketKey(int[] signature, int band) {
+        int hash = 1;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = 31 * hash + signature[row];
+        }
+        return ((long) band << 32) | (hash & 0xffffffffL);
+    }
+
+    private static int[] signature(String text) {
+        Set<Integer> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = mix(shingle * SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static Set<Integer> shingles(String text) {
+        Set<Integer> shingles = new HashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty() || STOPWORDS.contains(token)) {
+                continue;
+            }
+            if (token.length() <= SHINGLE_SIZE) {
+                shingles.add(token.hashCode());
+                continue;
+            }
+            for (int i = 0; i + SHINGLE_SIZE <= token.length(); i++) {
+                shingles.add(token.substring(i, i + SHINGLE_SIZE).hashCode());
+            }
+        }
+        return shingles;
+    }
+
+    private static String textOf(String title, String description) {
+        if (title == null) {
+            return description == null ? "" : description;
+        }
+        return description == null ? title : title + " " + description;
+    }
+
+    // Murmur3 64-bit finalizer, folded to an int
+    private static int mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return (int) x;
+    }
+
+    /**
+     * Bucket key to task ids, kept in flat primitive arrays rather than a map of boxed
+     * sets: every task is filed under {@value #BANDS} buckets, so per-entry overhead
+     * dominates the index's footprint. Keys live in a linear-probing table whose slots
+     * point at the head of a singly linked chain of (task id, next) entries; freed
+     * entries are recycled through a free list. Not thread-safe on its own.
+     */
+    static final class BucketTable {
+
+        private static final int EMPTY = -1;
+        private static final int INITIAL_SLOTS = 1024;
+
+        private long[] keys = new long[INITIAL_SLOTS];
+        private int[] heads = filled(INITIAL_SLOTS);
+        private int usedSlots;
+
+        private long[] entryTaskIds = new long[INITIAL_SLOTS];
+        private int[] entryNext = new int[INITIAL_SLOTS];
+        private int entryCount;
+        private int freeEntry = EMPTY;
+
+        void add(long key, long taskId) {
+            if ((usedSlots + 1) * 4L > keys.length * 3L) {
+                resize(keys.length * 2);
+            }
+            int slot = find(key);
+            if (heads[slot] == EMPTY) {
+                keys[slot] = key;
+                usedSlots++;
+            }
+            int entry = newEntry(taskId);
+            entryNext[entry] = heads[slot];
+            heads[slot] = entry;
+        }
+
+        void remove(long key, long taskId) {
+            int slot = find(key);
+            if (heads[slot] == EMPTY) {
+                return;
+            }
+            int previous = EMPTY;
+            for (int entry = heads[slot]; entry != EMPTY; previous = entry, entry = entryNext[entry]) {
+                if (entryTaskIds[entry] == taskId) {
+                    if (previous == EMPTY) {
+                        heads[slot] = entryNext[entry];
+                    } else {
+                        entryNext[previous] = entryNext[entry];
+                    }
+                    entryNext[entry] = freeEntry;
+                    freeEntry = entry;
+                    break;
+                }
+            }
+            if (heads[slot] == EMPTY) {
+                clearSlot(slot);
+            }
+        }
+
+        void forEach(long key, LongConsumer action) {
+            for (int entry = heads[find(key)]; entry != EMPTY; entry = entryNext[entry]) {
+                action.accept(entryTaskIds[entry]);
+            }
+        }
+
+        // The slot holding 'key', or the empty slot where it would go
+        private int find(long key) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (heads[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private int newEntry(long taskId) {
+            int entry;
+            if (freeEntry != EMPTY) {
+                entry = freeEntry;
+                freeEntry = entryNext[entry];
+            } else {
+                if (entryCount == entryTaskIds.length) {
+                    entryTaskIds = Arrays.copyOf(entryTaskIds, entryCount * 2);
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                }
+                entry = entryCount++;
+            }
+            entryTaskIds[entry] = taskId;
+            return entry;
+        }
+
+        // Backward-shift deletion keeps probe sequences intact without tombstones
+        private void clearSlot(int slot) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; heads[next] != EMPTY; next = (next + 1) & mask) {
+                int home = mix(keys[next]) & mask;
+                boolean reachable = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+                if (reachable) {
+                    keys[hole] = keys[next];
+                    heads[hole] = heads[next];
+                    hole = next;
+                }
+            }
+            heads[hole] = EMPTY;
+            usedSlots--;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldHeads = heads;
+            keys = new long[capacity];
+            heads = filled(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldHeads[i] != EMPTY) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    heads[slot] = oldHeads[i];
+                }
+            }
+        }
+
+        private static int[] filled(int length) {
+            int[] array = new int[length];
+            Arrays.fill(array, EMPTY);
+            return array;
+        }
+    }
+}
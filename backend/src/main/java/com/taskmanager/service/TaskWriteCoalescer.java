@@ -0,0 +1,250 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for task inserts. Concurrent callers enqueue their task and block
+ * while a single flusher thread writes everything that arrived within
+ * {@code max-delay-ms} (or up to {@code max-batch-size} rows) in one transaction,
+ * so the database pays for one commit instead of one per request.
+ *
+ * <p>Every queued write is answered exactly once: with its saved entity, with its own
+ * failure, or with an {@link IllegalStateException} if the flusher stops first. A write
+ * still queued after {@code max-wait} is withdrawn and fails. One already being flushed
+ * is waited for instead, so a caller is never told a write failed that may yet commit;
+ * flush transactions time out after {@code max-wait} and roll back.
+ *
+ * <p>Batch sizes and flush times are published as the {@code taskmanager.group-commit.batch.size}
+ * and {@code taskmanager.group-commit.flush} metrics.
+ */
+@Slf4j
+@Component
+public class TaskWriteCoalescer {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long maxWaitMillis;
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    // Guards running together with enqueueing, so nothing is queued after the final drain
+    private final Object lifecycle = new Object();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TaskWriteCoalescer(TaskRepository taskRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${taskmanager.group-commit.enabled:false}") boolean enabled,
+                              @Value("${taskmanager.group-commit.max-batch-size:64}") int maxBatchSize,
+                              @Value("${taskmanager.group-commit.max-delay-ms:5}") long maxDelayMs,
+                              @Value("${taskmanager.group-commit.max-wait:30s}") Duration maxWait) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout((int) Math.max(1, maxWait.toSeconds()));
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMs));
+        this.maxWaitMillis = maxWait.toMillis();
+        this.batchSizes = DistributionSummary.builder("taskmanager.group-commit.batch.size")
+            .description("Tasks written per group commit")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("taskmanager.group-commit.flush")
+            .description("Time to write one group commit, including individual retries")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runLoop, "task-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Group commit enabled (maxBatchSize={}, maxDelayMs={})",
+            maxBatchSize, TimeUnit.NANOSECONDS.toMillis(maxDelayNanos));
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        // The loop keeps draining until the queue is empty, so pending callers still get an answer
+        synchronized (lifecycle) {
+            running = false;
+        }
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        if (flusher.isAlive()) {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(1));
+        }
+        failQueued(new IllegalStateException("Group commit stopped before the task was written"));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the task for the next group commit and waits for it to be written.
+     * Each caller gets back its own saved entity (with generated ID) or its own exception.
+     */
+    public Task save(Task task) {
+        PendingWrite write = new PendingWrite(task, new CompletableFuture<>());
+        synchronized (lifecycle) {
+            if (!running) {
+                throw new IllegalStateException("Group commit is not running");
+            }
+            queue.add(write);
+        }
+        try {
+            return write.result().get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (TimeoutException e) {
+            if (queue.remove(write)) {
+                throw new IllegalStateException("Timed out waiting for group commit; the task was not written", e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (queue.remove(write)) {
+                throw new IllegalStateException("Interrupted while waiting for group commit; the task was not written", e);
+            }
+        }
+        // Already being flushed, so it may still commit: wait for the real outcome, which the
+        // flush transaction's timeout bounds
+        try {
+            return write.result().join();
+        } catch (CompletionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    private static RuntimeException failure(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException("Group commit failed", cause);
+    }
+
+    private void runLoop() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                synchronized (lifecycle) {
+                    running = false;
+                }
+                IllegalStateException stopped = new IllegalStateException("Group commit was interrupted", e);
+                batch.forEach(write -> write.result().completeExceptionally(stopped));
+                failQueued(stopped);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | Error e) {
+                log.error("Unexpected failure in group commit loop", e);
+                batch.forEach(write -> write.result().completeExceptionally(e));
+                if (e instanceof Error error) {
+                    synchronized (lifecycle) {
+                        running = false;
+                    }
+                    failQueued(new IllegalStateException("Group commit stopped", error));
+                    throw error;
+                }
+            } finally {
+                // No-op for writes already answered; anything else must not be left waiting
+                if (!batch.isEmpty()) {
+                    IllegalStateException unanswered = new IllegalStateException("Group commit did not complete the write");
+                    batch.forEach(write -> write.result().completeExceptionally(unanswered));
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void failQueued(RuntimeException cause) {
+        List<PendingWrite> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(write -> write.result().completeExceptionally(cause));
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        batchSizes.record(batch.size());
+        flushTimer.record(() -> write(batch));
+    }
+
+    private void write(List<PendingWrite> batch) {
+        long started = System.nanoTime();
+        List<Task> tasks = batch.stream().map(PendingWrite::task).toList();
+        try {
+            List<Task> saved = transactionTemplate.execute(status -> taskRepository.saveAll(tasks));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+            log.debug("Group commit wrote {} tasks in {} µs",
+                batch.size(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // One bad row must not fail its neighbours: replay each write in its own transaction
+            log.warn("Group commit of {} tasks failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (PendingWrite write : batch) {
+                write.task().setId(null);
+                try {
+                    write.result().complete(transactionTemplate.execute(status -> taskRepository.save(write.task())));
+                } catch (RuntimeException single) {
+                    write.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private record PendingWrite(Task task, CompletableFuture<Task> result) {
+    }
+}
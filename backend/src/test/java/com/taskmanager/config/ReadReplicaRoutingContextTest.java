@@ -0,0 +1,47 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application with the {@code replicas} profile, with the primary and the
+ * replica both pointed at in-memory H2 databases.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "taskmanager.datasource.routing.replicas[0].url=jdbc:h2:mem:replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "taskmanager.datasource.routing.replicas[0].username=sa",
+    "taskmanager.datasource.routing.replicas[0].password=",
+    "google.cloud.project-id=test",
+    "google.cloud.location=test",
+    "google.api.key=test",
+    "gemini.model=test"
+})
+@ActiveProfiles("replicas")
+class ReadReplicaRoutingContextTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Test
+    void startsWithRoutingEnabled() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+
+        routingDataSource.checkHealth();
+    }
+}
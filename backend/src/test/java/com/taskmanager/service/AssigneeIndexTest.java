@@ -0,0 +1,105 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.AssigneeSuggestion;
+import com.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssigneeIndexTest {
+
+    private final AssigneeIndex index = new AssigneeIndex();
+    private long nextId = 1;
+
+    @Test
+    void suggestsByPrefixIgnoringCaseMostAssignedFirst() {
+        assign("Aman", 3);
+        assign("alex", 2);
+        assign("Amar", 1);
+        assign("Amanda", 1);
+        assign("Bob", 1);
+
+        assertThat(index.suggest("AM", 10)).extracting(AssigneeSuggestion::getName)
+            .containsExactly("Aman", "Amanda", "Amar");
+        assertThat(index.suggest("am", 10)).extracting(AssigneeSuggestion::getTaskCount)
+            .containsExactly(3, 1, 1);
+        assertThat(index.suggest("a", 2)).extracting(AssigneeSuggestion::getName)
+            .containsExactly("Aman", "alex");
+        assertThat(index.suggest("", 10)).extracting(AssigneeSuggestion::getName)
+            .containsExactly("Aman", "alex", "Amanda", "Amar", "Bob");
+        assertThat(index.suggest("z", 10)).isEmpty();
+        assertThat(index.suggest("a", 0)).isEmpty();
+    }
+
+    @Test
+    void limitsBeyondTheCachedListsMatchTheCachedOrder() {
+        for (int i = 1; i <= 15; i++) {
+            assign(String.format("user%02d", i), i);
+        }
+
+        List<AssigneeSuggestion> twelve = index.suggest("user", 12);
+        List<AssigneeSuggestion> cached = index.suggest("user", AssigneeIndex.CACHED_SUGGESTIONS);
+
+        assertThat(twelve).extracting(AssigneeSuggestion::getTaskCount)
+            .containsExactly(15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4);
+        assertThat(cached).isEqualTo(twelve.subList(0, AssigneeIndex.CACHED_SUGGESTIONS));
+    }
+
+    @Test
+    void resolvesKnownNamesButNeverCompletesPrefixes() {
+        assign("Aman", 1);
+        assign("Samantha", 1);
+
+        assertThat(index.resolve("aman")).isEqualTo(Optional.of("Aman"));
+        assertThat(index.resolve(" SAMANTHA ")).isEqualTo(Optional.of("Samantha"));
+        assertThat(index.resolve("Sam")).isEqualTo(Optional.empty());
+        assertThat(index.resolve("Zed")).isEqualTo(Optional.empty());
+        assertThat(index.resolve(" ")).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void displayNameFollowsTheLatestSpelling() {
+        assign("aman", 1);
+        assign("Aman", 1);
+
+        assertThat(index.suggest("a", 10)).extracting(AssigneeSuggestion::getName).containsExactly("Aman");
+        assertThat(index.suggest("a", 10)).extracting(AssigneeSuggestion::getTaskCount).containsExactly(2);
+    }
+
+    @Test
+    void reassignmentsAndDeletesUpdateCountsAndPruneNames() {
+        Task first = task("Aman");
+        Task second = task("Amanda");
+        index.onTaskSaved(first);
+        index.onTaskSaved(second);
+
+        first.setAssignee("Priya");
+        index.onTaskSaved(first);
+        assertThat(index.suggest("am", 10)).extracting(AssigneeSuggestion::getName).containsExactly("Amanda");
+        assertThat(index.resolve("aman")).isEqualTo(Optional.empty());
+
+        second.setAssignee(" ");
+        index.onTaskSaved(second);
+        index.onTaskDeleted(first.getId());
+        index.onTaskDeleted(first.getId()); // Deleting twice is a no-op
+
+        assertThat(index.suggest("", 10)).isEmpty();
+        assertThat(index.resolve("priya")).isEqualTo(Optional.empty());
+    }
+
+    private void assign(String assignee, int tasks) {
+        for (int i = 0; i < tasks; i++) {
+            index.onTaskSaved(task(assignee));
+        }
+    }
+
+    private Task task(String assignee) {
+        Task task = new Task();
+        task.setId(nextId++);
+        task.setAssignee(assignee);
+        return task;
+    }
+}
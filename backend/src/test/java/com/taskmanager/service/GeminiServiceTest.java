@@ -0,0 +1,81 @@
+package com.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiServiceTest {
+
+    private static final int MAX_CHUNK_CHARS = 100;
+
+    @Test
+    void transcriptWithinOneChunkIsSentWhole() {
+        GeminiService service = service(30);
+        String exact = "Aman: " + "x".repeat(MAX_CHUNK_CHARS - 6);
+
+        assertThat(service.splitTranscript("Aman: Send the summary by Friday.\n"))
+            .containsExactly("Aman: Send the summary by Friday.\n");
+        assertThat(service.splitTranscript(exact)).containsExactly(exact);
+    }
+
+    @Test
+    void chunksBreakAtSpeakerTurnsAndRepeatThePreviousTail() {
+        List<String> turns = turns(12);
+
+        List<String> chunks = service(30).splitTranscript(String.join("\n", turns));
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.length()).isLessThanOrEqualTo(MAX_CHUNK_CHARS);
+            assertThat(turns).contains(chunk.lines().findFirst().orElseThrow());
+        });
+        for (int i = 1; i < chunks.size(); i++) {
+            List<String> previous = chunks.get(i - 1).lines().toList();
+            assertThat(chunks.get(i)).startsWith(previous.get(previous.size() - 1));
+        }
+        assertThat(chunks.get(0)).startsWith(turns.get(0));
+        assertThat(chunks.get(chunks.size() - 1)).endsWith(turns.get(turns.size() - 1));
+    }
+
+    @Test
+    void zeroOverlapSplitsWithoutRepeatingAnything() {
+        List<String> turns = turns(12);
+
+        List<String> chunks = service(0).splitTranscript(String.join("\n", turns));
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(MAX_CHUNK_CHARS));
+        assertThat(String.join("\n", chunks)).isEqualTo(String.join("\n", turns));
+    }
+
+    @Test
+    void oversizedTurnIsSplitToFitWithItsOverlap() {
+        String turn = "Aman: " + "We reviewed the numbers again. ".repeat(10).strip();
+
+        List<String> chunks = service(30).splitTranscript(turn + "\nPriya: Noted.");
+
+        assertThat(chunks).hasSizeGreaterThan(2);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(MAX_CHUNK_CHARS));
+        assertThat(chunks.get(chunks.size() - 1)).endsWith("Priya: Noted.");
+    }
+
+    private static GeminiService service(int overlapChars) {
+        GeminiService service = new GeminiService(new TaskSimilarityIndex(0.5));
+        ReflectionTestUtils.setField(service, "maxChunkChars", MAX_CHUNK_CHARS);
+        ReflectionTestUtils.setField(service, "overlapChars", overlapChars);
+        return service;
+    }
+
+    private static List<String> turns(int count) {
+        String[] speakers = {"Aman", "Priya", "Chen"};
+        List<String> turns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            turns.add(speakers[i % speakers.length] + ": Item " + i + " is done.");
+        }
+        return turns;
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_003L;
+
+    @Test
+    void firesTimersOnTheirTickAcrossCascadeBoundaries() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, START);
+        // Deltas straddle the spans of levels 0 to 3 (64, 4096, 262144 ticks)
+        long[] deltas = {0, 1, 63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 262_145, 300_000};
+        for (long delta : deltas) {
+            wheel.schedule(START + delta, START + delta);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now <= START + 300_000; now++) {
+            long tick = now;
+            wheel.advanceTo(now, deadline -> {
+                assertThat(deadline).isEqualTo(tick);
+                fired.add(deadline);
+            });
+        }
+
+        assertThat(fired).hasSize(deltas.length);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void neverFiresEarlyOrLateWhenAdvancedInCoarseSteps() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, START);
+        Random random = new Random(7);
+        int scheduled = 20_000;
+        for (int i = 0; i < scheduled; i++) {
+            long deadline = START + (long) (Math.pow(random.nextDouble(), 3) * 2_000_000);
+            wheel.schedule(deadline, deadline);
+        }
+
+        int[] fired = {0};
+        long step = 997;
+        for (long now = START; now < START + 2_000_000 + step; now += step) {
+            long upTo = now;
+            wheel.advanceTo(now, deadline -> {
+                assertThat(deadline).isLessThanOrEqualTo(upTo);
+                assertThat(deadline).isGreaterThan(upTo - step);
+                fired[0]++;
+            });
+        }
+
+        assertThat(fired[0]).isEqualTo(scheduled);
+    }
+
+    @Test
+    void cancelledTimersNeverFire() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, START);
+        List<HierarchicalTimingWheel.Timer<Long>> timers = new ArrayList<>();
+        for (long delta = 1; delta <= 10_000; delta += 7) {
+            timers.add(wheel.schedule(START + delta, delta));
+        }
+        Set<Long> cancelled = new HashSet<>();
+        for (int i = 0; i < timers.size(); i += 3) {
+            wheel.cancel(timers.get(i));
+            wheel.cancel(timers.get(i)); // A second cancel is a no-op
+            cancelled.add(timers.get(i).payload());
+        }
+
+        Set<Long> fired = new HashSet<>();
+        wheel.advanceTo(START + 10_000, fired::add);
+
+        assertThat(fired).hasSize(timers.size() - cancelled.size());
+        assertThat(fired).doesNotContain(cancelled.toArray(new Long[0]));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, START);
+        wheel.schedule(START - 60_000, "late");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(START, fired::add);
+
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void roundsDeadlinesUpToTheNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 0);
+        wheel.schedule(1_500, "due");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(1_999, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advanceTo(2_000, fired::add);
+        assertThat(fired).containsExactly("due");
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NLParserServiceTest {
+
+    private final AssigneeIndex assigneeIndex = new AssigneeIndex();
+    private final NLParserService parser = new NLParserService(assigneeIndex);
+
+    @Test
+    void newNameThatPrefixesAKnownOneIsKeptAsWritten() {
+        assign(1L, "Samantha");
+
+        TaskRequest request = parser.parseTaskDescription("Review budget for Sam");
+
+        assertThat(request.getAssignee()).isEqualTo("Sam");
+        assertThat(request.getDescription()).isEqualTo("Review budget");
+    }
+
+    @Test
+    void knownNameKeepsItsUsualSpelling() {
+        assign(1L, "Samantha");
+
+        assertThat(parser.parseTaskDescription("Review budget for samantha").getAssignee()).isEqualTo("Samantha");
+    }
+
+    @Test
+    void monthlyOnADayRepeatsWithoutARepeatMarker() {
+        TaskRequest request = parser.parseTaskDescription("Pay rent monthly on the 1st");
+
+        assertThat(request.getRecurrenceRule()).isEqualTo("FREQ=MONTHLY;BYMONTHDAY=1");
+        assertThat(request.getDueDate().getDayOfMonth()).isEqualTo(1);
+        assertThat(request.getDescription()).isEqualTo("Pay rent");
+    }
+
+    @Test
+    void recurrenceAdjectivesStayInTheTitle() {
+        TaskRequest request = parser.parseTaskDescription("Write the monthly report");
+
+        assertThat(request.getRecurrenceRule()).isNull();
+        assertThat(request.getDescription()).isEqualTo("Write the monthly report");
+    }
+
+    private void assign(Long id, String assignee) {
+        Task task = new Task();
+        task.setId(id);
+        task.setAssignee(assignee);
+        assigneeIndex.onTaskSaved(task);
+    }
+}
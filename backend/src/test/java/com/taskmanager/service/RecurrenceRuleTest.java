@@ -0,0 +1,141 @@
+package com.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    @Test
+    void dailyIntervalKeepsStepsFromTheAnchor() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3");
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        assertThat(rule.between(anchor, LocalDateTime.of(2024, 3, 1, 0, 0), null, 3)).containsExactly(
+            LocalDateTime.of(2024, 3, 1, 9, 0),
+            LocalDateTime.of(2024, 3, 4, 9, 0),
+            LocalDateTime.of(2024, 3, 7, 9, 0));
+    }
+
+    @Test
+    void weeklyByDayStartsAtTheAnchorAndKeepsItsTime() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR");
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 3, 10, 30); // A Wednesday
+
+        assertThat(rule.between(anchor, anchor, null, 5)).containsExactly(
+            LocalDateTime.of(2024, 1, 3, 10, 30),
+            LocalDateTime.of(2024, 1, 5, 10, 30),
+            LocalDateTime.of(2024, 1, 8, 10, 30),
+            LocalDateTime.of(2024, 1, 10, 10, 30),
+            LocalDateTime.of(2024, 1, 12, 10, 30));
+    }
+
+    @Test
+    void weeklyWithoutByDayRepeatsTheAnchorWeekday() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2");
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 3, 10, 0);
+
+        assertThat(rule.between(anchor, anchor, null, 3)).containsExactly(
+            LocalDateTime.of(2024, 1, 3, 10, 0),
+            LocalDateTime.of(2024, 1, 17, 10, 0),
+            LocalDateTime.of(2024, 1, 31, 10, 0));
+    }
+
+    @Test
+    void negativeMonthDayCountsFromTheEndOfEachMonth() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=-1");
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 31, 9, 0);
+
+        assertThat(rule.between(anchor, anchor, null, 4)).containsExactly(
+            LocalDateTime.of(2024, 1, 31, 9, 0),
+            LocalDateTime.of(2024, 2, 29, 9, 0),
+            LocalDateTime.of(2024, 3, 31, 9, 0),
+            LocalDateTime.of(2024, 4, 30, 9, 0));
+    }
+
+    @Test
+    void monthsAndYearsWithoutTheDayAreSkipped() {
+        LocalDateTime endOfMonth = LocalDateTime.of(2024, 1, 31, 9, 0);
+        assertThat(RecurrenceRule.parse("FREQ=MONTHLY").between(endOfMonth, endOfMonth, null, 3)).containsExactly(
+            LocalDateTime.of(2024, 1, 31, 9, 0),
+            LocalDateTime.of(2024, 3, 31, 9, 0),
+            LocalDateTime.of(2024, 5, 31, 9, 0));
+
+        LocalDateTime leapDay = LocalDateTime.of(2024, 2, 29, 9, 0);
+        assertThat(RecurrenceRule.parse("FREQ=YEARLY").between(leapDay, leapDay, null, 2)).containsExactly(
+            LocalDateTime.of(2024, 2, 29, 9, 0),
+            LocalDateTime.of(2028, 2, 29, 9, 0));
+    }
+
+    @Test
+    void untilIsInclusiveAndTheWindowEndIsExclusive() {
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        List<LocalDateTime> untilFifth = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20240105").between(anchor, anchor, null, 100);
+        assertThat(untilFifth).hasSize(5);
+        assertThat(untilFifth.get(4)).isEqualTo(LocalDateTime.of(2024, 1, 5, 9, 0));
+        assertThat(RecurrenceRule.parse("FREQ=DAILY;UNTIL=20240105")
+            .nextOnOrAfter(anchor, LocalDateTime.of(2024, 1, 5, 9, 1))).isNull();
+
+        assertThat(RecurrenceRule.parse("FREQ=DAILY").between(anchor, anchor, LocalDateTime.of(2024, 1, 3, 9, 0), 10))
+            .containsExactly(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 2, 9, 0));
+    }
+
+    @Test
+    void expansionJumpsStraightToADistantWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=7");
+        LocalDateTime anchor = LocalDateTime.of(1970, 1, 1, 8, 0); // A Thursday
+
+        assertThat(rule.nextOnOrAfter(anchor, LocalDateTime.of(2024, 6, 1, 0, 0)))
+            .isEqualTo(LocalDateTime.of(2024, 6, 6, 8, 0));
+    }
+
+    @Test
+    void filtersThatCanNeverMatchYieldNothing() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=7;BYDAY=FR");
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 4, 8, 0); // Every seventh day is a Thursday
+
+        assertThat(rule.between(anchor, anchor, null, 1)).isEmpty();
+    }
+
+    @Test
+    void isOccurrenceMatchesOnlyExpandedDateTimes() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY");
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 3, 10, 0);
+
+        assertThat(rule.isOccurrence(anchor, LocalDateTime.of(2024, 1, 10, 10, 0))).isTrue();
+        assertThat(rule.isOccurrence(anchor, LocalDateTime.of(2024, 1, 10, 11, 0))).isFalse();
+        assertThat(rule.isOccurrence(anchor, LocalDateTime.of(2024, 1, 11, 10, 0))).isFalse();
+        assertThat(rule.isOccurrence(anchor, LocalDateTime.of(2023, 12, 27, 10, 0))).isFalse();
+    }
+
+    @Test
+    void toStringIsCanonical() {
+        assertThat(RecurrenceRule.parse("rrule:freq=weekly;byday=fr,mo;interval=1").toString())
+            .isEqualTo("FREQ=WEEKLY;BYDAY=MO,FR");
+        assertThat(RecurrenceRule.parse("FREQ=MONTHLY;UNTIL=20251231T000000Z;BYMONTHDAY=-1;INTERVAL=2").toString())
+            .isEqualTo("FREQ=MONTHLY;INTERVAL=2;BYMONTHDAY=-1;UNTIL=20251231");
+    }
+
+    @Test
+    void rejectsMalformedAndUnsupportedRules() {
+        List<String> invalid = List.of(
+            "",
+            "INTERVAL=2",
+            "FREQ=HOURLY",
+            "FREQ=DAILY;COUNT=3",
+            "FREQ=DAILY;INTERVAL=0",
+            "FREQ=DAILY;BYDAY=XX",
+            "FREQ=MONTHLY;BYDAY=MO",
+            "FREQ=WEEKLY;BYMONTHDAY=1",
+            "FREQ=MONTHLY;BYMONTHDAY=32",
+            "FREQ=DAILY;UNTIL=tomorrow");
+        for (String rule : invalid) {
+            assertThatThrownBy(() -> RecurrenceRule.parse(rule)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSimilarityIndexTest {
+
+    private final TaskSimilarityIndex index = new TaskSimilarityIndex(0.5);
+
+    @Test
+    void findsRewordedTaskAndIgnoresUnrelatedOnes() {
+        index.onTaskSaved(task(1L, "Write quarterly report"));
+        index.onTaskSaved(task(2L, "Buy milk"));
+
+        List<TaskSimilarityIndex.Match> matches = index.findSimilar("write the quarterly report draft", null, 5);
+
+        assertThat(matches).extracting(TaskSimilarityIndex.Match::taskId).containsExactly(1L);
+        assertThat(matches.get(0).similarity()).isGreaterThanOrEqualTo(index.getThreshold());
+    }
+
+    @Test
+    void genericVerbsDoNotMakeTasksSimilar() {
+        index.onTaskSaved(task(1L, "Finish landing page"));
+
+        assertThat(index.findSimilar("Finish tax return", null, 5)).isEmpty();
+    }
+
+    @Test
+    void findSimilarToExcludesTheTaskItself() {
+        index.onTaskSaved(task(1L, "Finish landing page"));
+        index.onTaskSaved(task(2L, "Complete the landing page"));
+
+        assertThat(index.findSimilarTo(1L, 5)).extracting(TaskSimilarityIndex.Match::taskId).containsExactly(2L);
+        assertThat(index.findSimilarTo(99L, 5)).isNull();
+    }
+
+    @Test
+    void updatesAndDeletesLeaveNoStaleBucketEntries() {
+        index.onTaskSaved(task(1L, "Write quarterly report"));
+        index.onTaskSaved(task(1L, "Buy milk"));
+
+        assertThat(index.findSimilar("quarterly report", null, 5)).isEmpty();
+        assertThat(index.findSimilar("buy milk", null, 5)).extracting(TaskSimilarityIndex.Match::taskId).containsExactly(1L);
+
+        index.onTaskDeleted(1L);
+
+        assertThat(index.findSimilar("buy milk", null, 5)).isEmpty();
+        assertThat(index.findSimilarTo(1L, 5)).isNull();
+    }
+
+    @Test
+    void identicalTextsHaveFullSimilarity() {
+        assertThat(index.similarity("Review pull request", "review the pull request")).isEqualTo(1.0);
+        assertThat(index.similarity("Review pull request", "")).isZero();
+    }
+
+    @Test
+    void bucketTableMatchesAReferenceMultimapUnderChurn() {
+        TaskSimilarityIndex.BucketTable table = new TaskSimilarityIndex.BucketTable();
+        Map<Long, Set<Long>> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(3_000) * 0x9E3779B97F4A7C15L;
+            long taskId = random.nextInt(200);
+            if (random.nextInt(3) > 0) {
+                if (reference.computeIfAbsent(key, k -> new HashSet<>()).add(taskId)) {
+                    table.add(key, taskId);
+                }
+            } else {
+                Set<Long> ids = reference.get(key);
+                if (ids != null && ids.remove(taskId) && ids.isEmpty()) {
+                    reference.remove(key);
+                }
+                table.remove(key, taskId);
+            }
+        }
+
+        for (int k = 0; k < 3_000; k++) {
+            long key = k * 0x9E3779B97F4A7C15L;
+            Set<Long> ids = new HashSet<>();
+            table.forEach(key, ids::add);
+            assertThat(ids).isEqualTo(reference.getOrDefault(key, Set.of()));
+        }
+    }
+
+    private static Task task(Long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        return task;
+    }
+}
@@ -2,6 +2,9 @@ import axios from 'axios';
 
 const API_BASE_URL = 'http://localhost:8081/api';
 
+// Columns the task list renders and searches; the API returns a narrower summary by default
+const TASK_LIST_FIELDS = 'id,title,description,assignee,dueDate,priority,status';
+
 const apiClient = axios.create({
   baseURL: API_BASE_URL,
   headers: {
@@ -17,6 +20,7 @@ export const taskService = {
       const params = new URLSearchParams({
         page: page.toString(),
         size: size.toString(),
+        fields: TASK_LIST_FIELDS,
         ...(search && { search })
       });
       const url = `/tasks?${params.toString()}`;